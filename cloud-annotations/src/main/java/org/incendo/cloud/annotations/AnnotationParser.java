@@ -223,7 +223,8 @@ public final class AnnotationParser<C> {
         );
         this.registerPreprocessorMapper(Regex.class, annotation -> RegexPreprocessor.of(
                 this.processString(annotation.value()),
-                Caption.of(this.processString(annotation.failureCaption()))
+                Caption.of(this.processString(annotation.failureCaption())),
+                annotation.engine()
         ));
         this.manager.parameterInjectorRegistry().registerInjector(
                 String[].class,
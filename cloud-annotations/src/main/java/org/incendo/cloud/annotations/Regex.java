@@ -30,6 +30,7 @@ import java.lang.annotation.Target;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.component.preprocessor.ComponentPreprocessor;
+import org.incendo.cloud.component.preprocessor.RegexPreprocessor;
 
 /**
  * Annotation version of adding {@link org.incendo.cloud.component.preprocessor.RegexPreprocessor}
@@ -53,4 +54,12 @@ public @interface Regex {
      * @return Failure caption key
      */
     @NonNull String failureCaption() default "argument.parse.failure.regex";
+
+    /**
+     * Engine used to match the input. {@link RegexPreprocessor.Engine#LINEAR} bounds the matching time for patterns
+     * that would otherwise backtrack excessively.
+     *
+     * @return Engine
+     */
+    RegexPreprocessor.@NonNull Engine engine() default RegexPreprocessor.Engine.JAVA;
 }
@@ -73,6 +73,7 @@ import org.incendo.cloud.permission.OrPermission;
 import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.permission.PermissionResult;
 import org.incendo.cloud.permission.PredicatePermission;
+import org.incendo.cloud.services.PreparedService;
 import org.incendo.cloud.services.ServicePipeline;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.setting.Configurable;
@@ -85,6 +86,7 @@ import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionFactory;
 import org.incendo.cloud.suggestion.SuggestionMapper;
 import org.incendo.cloud.suggestion.SuggestionProcessor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.syntax.CommandSyntaxFormatter;
 import org.incendo.cloud.syntax.StandardCommandSyntaxFormatter;
 import org.incendo.cloud.type.tuple.Pair;
@@ -111,10 +113,13 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
     private final Set<CloudCapability> capabilities = new HashSet<>();
     private final ExceptionController<C> exceptionController = new ExceptionController<>();
     private final CommandExecutor<C> commandExecutor;
+    private final PreparedService<CommandPreprocessingContext<C>, State> preprocessors;
+    private final PreparedService<CommandPostprocessingContext<C>, State> postprocessors;
 
     private CaptionFormatter<C, String> captionVariableReplacementHandler = CaptionFormatter.placeholderReplacing();
     private CommandSyntaxFormatter<C> commandSyntaxFormatter = new StandardCommandSyntaxFormatter<>(this);
     private SuggestionProcessor<C> suggestionProcessor = new FilteringSuggestionProcessor<>();
+    private int suggestionLimit = Integer.MAX_VALUE;
     private CommandRegistrationHandler<C> commandRegistrationHandler;
     private CaptionRegistry<C> captionRegistry;
     private HelpHandlerFactory<C> helpHandlerFactory = HelpHandlerFactory.standard(this);
@@ -150,10 +155,14 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
                 commandContextFactory
         );
         /* Register service types */
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPreprocessor<C>>() {
-        }, new AcceptingCommandPreprocessor<>());
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPostprocessor<C>>() {
-        }, new AcceptingCommandPostprocessor<>());
+        final TypeToken<CommandPreprocessor<C>> preprocessorType = new TypeToken<CommandPreprocessor<C>>() {
+        };
+        final TypeToken<CommandPostprocessor<C>> postprocessorType = new TypeToken<CommandPostprocessor<C>>() {
+        };
+        this.servicePipeline.registerServiceType(preprocessorType, new AcceptingCommandPreprocessor<>());
+        this.servicePipeline.registerServiceType(postprocessorType, new AcceptingCommandPostprocessor<>());
+        this.preprocessors = this.servicePipeline.prepare(preprocessorType);
+        this.postprocessors = this.servicePipeline.prepare(postprocessorType);
         /* Create the caption registry */
         this.captionRegistry = CaptionRegistry.captionRegistry();
         this.captionRegistry.registerProvider(new StandardCaptionsProvider<>());
@@ -602,10 +611,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
             final @NonNull CommandContext<C> context,
             final @NonNull CommandInput commandInput
     ) {
-        this.servicePipeline.pump(CommandPreprocessingContext.of(context, commandInput))
-                .through(new TypeToken<CommandPreprocessor<C>>() {
-                })
-                .complete();
+        this.preprocessors.complete(CommandPreprocessingContext.of(context, commandInput));
         return context.<String>optional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
@@ -623,10 +629,7 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
             final @NonNull CommandContext<C> context,
             final @NonNull Command<C> command
     ) {
-        this.servicePipeline.pump(CommandPostprocessingContext.of(context, command))
-                .through(new TypeToken<CommandPostprocessor<C>>() {
-                })
-                .complete();
+        this.postprocessors.complete(CommandPostprocessingContext.of(context, command));
         return context.<String>optional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
@@ -655,6 +658,37 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         this.suggestionProcessor = suggestionProcessor;
     }
 
+    /**
+     * Returns the maximum number of suggestions that are returned for a single suggestion request.
+     *
+     * @return the suggestion limit, {@link Integer#MAX_VALUE} if unlimited
+     * @see #suggestionLimit(int)
+     */
+    @API(status = API.Status.STABLE)
+    public int suggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    /**
+     * Sets the maximum number of suggestions that are returned for a single suggestion request.
+     * <p>
+     * The limit is applied to the output of the {@link #suggestionProcessor() suggestion processor}. Suggestions are
+     * pulled lazily from the {@link Iterable iterables} returned by the suggestion providers, and iteration stops once the
+     * limit has been reached, unless the processor needs to see every suggestion (for example to rank them).
+     * Suggestion providers may also read the limit from {@link SuggestionProvider#SUGGESTION_LIMIT_KEY} to bound the work
+     * they do up front.
+     *
+     * @param suggestionLimit the suggestion limit, {@link Integer#MAX_VALUE} to disable the limit
+     * @see #suggestionLimit()
+     */
+    @API(status = API.Status.STABLE)
+    public void suggestionLimit(final int suggestionLimit) {
+        if (suggestionLimit < 1) {
+            throw new IllegalArgumentException("suggestionLimit must be positive");
+        }
+        this.suggestionLimit = suggestionLimit;
+    }
+
     /**
      * Returns the parser registry instance.
      * <p>
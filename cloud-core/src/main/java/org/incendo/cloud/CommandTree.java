@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -57,15 +58,21 @@ import org.incendo.cloud.exception.NoPermissionException;
 import org.incendo.cloud.exception.NoSuchCommandException;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.SuggestionContext;
+import org.incendo.cloud.internal.SuggestionSessions;
+import org.incendo.cloud.internal.SuggestionTimeouts;
+import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
+import org.incendo.cloud.parser.bulk.BulkParser;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
 import org.incendo.cloud.parser.standard.LiteralParser;
 import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.permission.PermissionResult;
 import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestions;
 import org.incendo.cloud.util.CompletableFutures;
 
@@ -103,6 +110,7 @@ public final class CommandTree<C> {
 
     private final CommandNode<C> internalTree = new CommandNode<>(null);
     private final CommandManager<C> commandManager;
+    private final SuggestionSessions<C> suggestionSessions = new SuggestionSessions<>();
 
     private CommandTree(final @NonNull CommandManager<C> commandManager) {
         this.commandManager = commandManager;
@@ -175,11 +183,13 @@ public final class CommandTree<C> {
             final @NonNull Executor parsingExecutor
     ) {
         return CompletableFutures.scheduleOn(parsingExecutor, () -> this.parseDirect(commandContext, commandInput, parsingExecutor))
-                .thenApply(command -> {
-                    if (command != null) {
-                        commandContext.command(command);
+                .thenCompose(command -> {
+                    if (command == null) {
+                        return CompletableFuture.completedFuture(null);
                     }
-                    return command;
+                    commandContext.command(command);
+                    // Resolve the values of bulk parsers, so that the context holds the values of all components.
+                    return BulkParser.resolvePending(commandContext).thenApply($ -> command);
                 });
     }
 
@@ -288,8 +298,7 @@ public final class CommandTree<C> {
 
                 parsingContext.markStart();
 
-                return component.parser()
-                        .parseFuture(commandContext, commandInput)
+                return this.parseComponent(component, commandContext, commandInput)
                         .thenComposeAsync(result -> {
                             parsingContext.markEnd();
                             parsingContext.success(!result.failure().isPresent());
@@ -494,6 +503,8 @@ public final class CommandTree<C> {
         final CommandComponent<C> component = Objects.requireNonNull(child.component());
 
         final CompletableFuture<?> parseResult;
+        // Default values are already resolved, so only parsed bulk keys are deferred
+        final boolean defaulted = argumentValue != null;
         if (argumentValue != null) {
             if (argumentValue.parsedValue().isPresent()) {
                 parseResult = CompletableFuture.completedFuture(argumentValue.parsedValue().get());
@@ -512,7 +523,12 @@ public final class CommandTree<C> {
                return CompletableFuture.completedFuture(null);
            }
 
-           commandContext.store(component.name(), value);
+           if (component.parser() instanceof BulkParser && !defaulted) {
+               // The values of bulk parsers are stored once the command has been parsed.
+               ((BulkParser<C, ?, ?>) component.parser()).defer(commandContext, component.name(), value);
+           } else {
+               commandContext.store(component.name(), value);
+           }
            if (child.isLeaf()) {
                if (commandInput.isEmpty()) {
                    return CompletableFuture.completedFuture(child.command());
@@ -563,8 +579,7 @@ public final class CommandTree<C> {
         // Copy the current queue so that we can deduce the captured input.
         final CommandInput currentInput = commandInput.copy();
 
-        return node.component().parser()
-                .parseFuture(commandContext, commandInput)
+        return this.parseComponent(node.component(), commandContext, commandInput)
                 .thenComposeAsync(result -> {
                     parsingContext.consumedInput(currentInput, commandInput);
                     parsingContext.markEnd();
@@ -584,6 +599,26 @@ public final class CommandTree<C> {
                 }, executor);
     }
 
+    /**
+     * Parses the value of the given {@code component}. Bulk parsers only parse their key, and the resolution of its value
+     * is deferred until the command has been parsed.
+     *
+     * @param component      component to parse
+     * @param commandContext command context
+     * @param commandInput   command input
+     * @return future that completes with the parse result
+     */
+    private @NonNull CompletableFuture<? extends ArgumentParseResult<?>> parseComponent(
+            final @NonNull CommandComponent<C> component,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        if (component.parser() instanceof BulkParser) {
+            return ((BulkParser<C, ?, ?>) component.parser()).parseKey(commandContext, commandInput);
+        }
+        return component.parser().parseFuture(commandContext, commandInput);
+    }
+
     private @NonNull ArgumentParseException argumentParseException(
             final CommandContext<C> commandContext,
             final CommandNode<C> node,
@@ -613,23 +648,72 @@ public final class CommandTree<C> {
             final @NonNull SuggestionMapper<S> mapper,
             final @NonNull Executor executor
     ) {
-        return CompletableFutures.scheduleOn(executor, () -> this.getSuggestionsDirect(context, commandInput, mapper, executor));
+        return this.getSuggestions(context, commandInput, mapper, executor, SuggestionTimeouts.none());
+    }
+
+    /**
+     * Returns suggestions from the input queue, bounded by the given {@code timeouts}
+     *
+     * @param <S>          suggestion type
+     * @param context      Context instance
+     * @param commandInput Input
+     * @param mapper       suggestion mapper
+     * @param executor     executor to schedule suggestion logic on
+     * @param timeouts     deadlines for the suggestion providers and the whole request
+     * @return the suggestions that were gathered before the deadlines passed
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public <S extends Suggestion> @NonNull CompletableFuture<@NonNull Suggestions<C, S>> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput commandInput,
+            final @NonNull SuggestionMapper<S> mapper,
+            final @NonNull Executor executor,
+            final @NonNull SuggestionTimeouts<C> timeouts
+    ) {
+        return CompletableFutures.scheduleOn(
+                executor,
+                () -> this.getSuggestionsDirect(context, commandInput, mapper, executor, timeouts)
+        );
     }
 
     private <S extends Suggestion> @NonNull CompletableFuture<@NonNull Suggestions<C, S>> getSuggestionsDirect(
             final @NonNull CommandContext<C> context,
             final @NonNull CommandInput commandInput,
             final @NonNull SuggestionMapper<S> mapper,
-            final @NonNull Executor executor
+            final @NonNull Executor executor,
+            final @NonNull SuggestionTimeouts<C> timeouts
     ) {
         final SuggestionContext<C, S> suggestionCtx = new SuggestionContext<>(
                 this.commandManager.suggestionProcessor(),
                 context,
                 commandInput,
-                mapper
+                mapper,
+                this.commandManager.suggestionLimit(),
+                timeouts
         );
-        return this.getSuggestions(suggestionCtx, commandInput, this.internalTree, executor)
-                .thenApply($ -> suggestionCtx.makeSuggestions());
+        final SuggestionSessions.Session<C> session;
+        if (this.commandManager.settings().get(ManagerSetting.INCREMENTAL_SUGGESTIONS)) {
+            session = this.suggestionSessions.open(context.sender());
+            suggestionCtx.session(session);
+        } else {
+            session = null;
+        }
+        final CompletableFuture<SuggestionContext<C, ?>> traversal = this.getSuggestions(
+                suggestionCtx,
+                commandInput,
+                this.internalTree,
+                executor
+        ).thenApply(ctx -> {
+            // Make the suggestions from the final position of the traversal, unless the request has timed out.
+            ctx.updateInput(commandInput);
+            return ctx;
+        });
+        return timeouts.boundRequest(suggestionCtx, traversal, executor).thenApply(ctx -> {
+            if (session != null) {
+                this.suggestionSessions.close(context.sender(), session);
+            }
+            return ctx.makeSuggestions();
+        });
     }
 
     @SuppressWarnings("MixedMutabilityReturnType")
@@ -639,8 +723,8 @@ public final class CommandTree<C> {
             final @NonNull CommandNode<C> root,
             final @NonNull Executor executor
     ) {
-        // If the sender isn't allowed to access the root node, no suggestions are needed
-        if (!this.canAccess(context.commandContext().sender(), root)) {
+        // If the sender isn't allowed to access the root node, or the request has timed out, no suggestions are needed
+        if (context.closed() || !this.canAccess(context.commandContext().sender(), root)) {
             return CompletableFuture.completedFuture(context);
         }
 
@@ -689,54 +773,70 @@ public final class CommandTree<C> {
             commandInput.cursor(commandInputCopy.cursor());
         }
 
+        // The providers of all children are launched concurrently. The literals reserve their positions up front, so
+        // the suggestions are merged in the order of the children regardless of which provider completes first
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
         // Calculate suggestions for the literal arguments
-        CompletableFuture<SuggestionContext<C, ?>> suggestionFuture = CompletableFuture.completedFuture(context);
         if (commandInput.remainingTokens() <= 1) {
             for (final CommandNode<C> node : staticArguments) {
-                suggestionFuture = suggestionFuture
-                        .thenCompose(ctx -> this.addSuggestionsForLiteralArgument(context, node, commandInput));
+                futures.add(this.addSuggestionsForLiteralArgument(context, node, commandInput, executor));
             }
         }
 
-        // Calculate suggestions for the variable argument, if one exists
+        // Calculate suggestions for the variable argument, if one exists. There is at most one, as more would be ambiguous
         for (final CommandNode<C> child : root.children()) {
             if (child.component() == null || child.component().type() == CommandComponent.ComponentType.LITERAL) {
                 continue;
             }
-            suggestionFuture = suggestionFuture
-                    .thenCompose(ctx -> this.addSuggestionsForDynamicArgument(context, commandInput, child, executor));
+            futures.add(this.addSuggestionsForDynamicArgument(context, commandInput, child, executor));
         }
 
-        return suggestionFuture;
+        return this.allOf(context, futures);
+    }
+
+    private @NonNull CompletableFuture<SuggestionContext<C, ?>> allOf(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull List<CompletableFuture<?>> futures
+    ) {
+        if (futures.isEmpty()) {
+            return CompletableFuture.completedFuture(context);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> context);
     }
 
     /**
      * Adds the suggestions for a static argument if they match the given {@code input}
      *
-     * @param context the suggestion context
-     * @param node    the node containing the static argument
-     * @param input   the current input
+     * @param context  the suggestion context
+     * @param node     the node containing the static argument
+     * @param input    the current input
+     * @param executor executor to schedule blocking suggestion providers on
      * @return future that completes with the context
      */
     private CompletableFuture<SuggestionContext<C, ?>> addSuggestionsForLiteralArgument(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandNode<C> node,
-            final @NonNull CommandInput input
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor
     ) {
         if (!this.canAccess(context.commandContext().sender(), node)) {
             return CompletableFuture.completedFuture(context);
         }
         final CommandComponent<C> component = Objects.requireNonNull(node.component());
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
+        // The input may be modified by sibling nodes before the suggestions are available
+        final String string = input.peekString();
+        final SuggestionContext<C, ?>.Slot slot = context.reserve(input);
+        return this.suggestionsFuture(context, component, input, executor, true /* fork */)
                 .thenApply(suggestionsToAdd -> {
-                    final String string = input.peekString();
+                    final List<Suggestion> matching = new ArrayList<>();
                     for (Suggestion suggestion : suggestionsToAdd) {
                         if (suggestion.suggestion().equals(string) || !suggestion.suggestion().startsWith(string)) {
                             continue;
                         }
-                        context.addSuggestion(suggestion);
+                        matching.add(suggestion);
                     }
+                    slot.fill(matching);
                     return context;
                 });
     }
@@ -759,11 +859,13 @@ public final class CommandTree<C> {
             // be suggested instead.
             final CommandFlagParser<C> parser = (CommandFlagParser<C>) component.parser();
             final Optional<String> lastFlag = parser.parseCurrentFlag(context.commandContext(), commandInput);
-            if (lastFlag.isPresent()) {
-                context.commandContext().store(CommandFlagParser.FLAG_META_KEY, lastFlag.get());
-            } else {
-                context.commandContext().remove(CommandFlagParser.FLAG_META_KEY);
-            }
+            context.modify(() -> {
+                if (lastFlag.isPresent()) {
+                    context.commandContext().store(CommandFlagParser.FLAG_META_KEY, lastFlag.get());
+                } else {
+                    context.commandContext().remove(CommandFlagParser.FLAG_META_KEY);
+                }
+            });
         }
 
         if (commandInput.isEmpty() || commandInput.remainingTokens() == 1
@@ -771,6 +873,21 @@ public final class CommandTree<C> {
             return this.addArgumentSuggestions(context, child, commandInput, executor);
         }
 
+        // Resume from the parse result of the previous request, if the sender has only appended to the parsed input
+        final SuggestionSessions.Session<C> session = component.parser() instanceof CommandFlagParser
+                ? null
+                : context.session();
+        if (session != null) {
+            final SuggestionSessions.Entry<C> entry = session.reuse(child, commandInput);
+            if (entry != null && context.modify(() -> {
+                entry.restore(context.commandContext(), commandInput);
+                context.commandContext().createParsingContext(component).success(true);
+            })) {
+                return this.getSuggestions(context, commandInput, child, executor);
+            }
+        }
+        final Map<CloudKey<?>, Object> snapshot = session == null ? null : session.snapshot(context.commandContext());
+
         // Store original input command queue before the parsers below modify it
         final CommandInput commandInputOriginal = commandInput.copy();
 
@@ -792,9 +909,7 @@ public final class CommandTree<C> {
             parsingContext.markStart();
             final CommandInput preParseInput = commandInput.copy();
 
-            parsingFuture = child.component()
-                    .parser()
-                    .parseFuture(context.commandContext(), commandInput)
+            parsingFuture = this.parseComponent(child.component(), context.commandContext(), commandInput)
                     .thenComposeAsync(result -> {
                         final Optional<?> parsedValue = result.parsedValue();
                         final boolean parseSuccess = parsedValue.isPresent();
@@ -815,12 +930,31 @@ public final class CommandTree<C> {
                         }
 
                         if (parseSuccess && (!commandInput.isEmpty() || commandInput.input().endsWith(" "))) {
-                            if (commandInput.isEmpty()) {
+                            final boolean consumedAll = commandInput.isEmpty();
+                            if (consumedAll) {
                                 commandInput.moveCursor(-1);
                             }
                             // the current argument at the position is parsable and there are more arguments following
-                            context.commandContext().store(child.component().name(), parsedValue.get());
+                            final boolean open = context.modify(() -> {
+                                if (!(child.component().parser() instanceof BulkParser)) {
+                                    // The values of bulk parsers are never resolved when suggesting.
+                                    context.commandContext().store(child.component().name(), parsedValue.get());
+                                }
+                            });
+                            if (!open) {
+                                // The request has timed out, so there is no use in parsing the following arguments.
+                                return CompletableFuture.completedFuture(context);
+                            }
                             parsingContext.success(true);
+                            if (session != null && !consumedAll) {
+                                session.record(
+                                        child,
+                                        commandInputOriginal.cursor(),
+                                        commandInput,
+                                        context.commandContext(),
+                                        snapshot
+                                );
+                            }
                             return this.getSuggestions(context, commandInput, child, executor);
                         } else if (!parseSuccess && commandInputOriginal.remainingTokens() > 1) {
                             // at this point there should normally be no need to reset the command queue as we expect
@@ -871,7 +1005,7 @@ public final class CommandTree<C> {
             final @NonNull Executor executor
     ) {
         final CommandComponent<C> component = Objects.requireNonNull(node.component());
-        return this.addArgumentSuggestions(context, component, input, executor).thenCompose(ctx -> {
+        return this.addArgumentSuggestions(context, component, input, executor, false /* fork */).thenCompose(ctx -> {
             // When suggesting a flag, potentially suggest following nodes too
             final boolean isParsingFlag = component.type() == CommandComponent.ComponentType.FLAG
                     && !node.children().isEmpty() // Has children
@@ -882,13 +1016,12 @@ public final class CommandTree<C> {
                 return CompletableFuture.completedFuture(ctx);
             }
 
-            return CompletableFuture.allOf(
-                    node.children()
-                            .stream()
-                            .map(child -> this.addArgumentSuggestions(
-                                    context, Objects.requireNonNull(child.component()), input, executor))
-                            .toArray(CompletableFuture[]::new)
-            ).thenApply(v -> ctx);
+            final List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (final CommandNode<C> child : node.children()) {
+                futures.add(this.addArgumentSuggestions(
+                        context, Objects.requireNonNull(child.component()), input, executor, true /* fork */));
+            }
+            return this.allOf(context, futures);
         });
     }
 
@@ -899,20 +1032,68 @@ public final class CommandTree<C> {
      * @param component the component to get suggestions from
      * @param input     the input from the sender
      * @param executor  executor to schedule further suggestion logic to
+     * @param fork      whether blocking suggestion providers should be scheduled on the executor, so that they run
+     *                  concurrently with their siblings. Forked providers may read the command context while a sibling
+     *                  is being parsed into it, which the thread-safe storage of {@link CommandContext} permits
      * @return future that completes with the context
      */
     private CompletableFuture<SuggestionContext<C, ?>> addArgumentSuggestions(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandComponent<C> component,
             final @NonNull CommandInput input,
-            final @NonNull Executor executor
+            final @NonNull Executor executor,
+            final boolean fork
     ) {
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
-                .thenAcceptAsync(context::addSuggestions, executor)
+        final SuggestionContext<C, ?>.Slot slot = context.reserve(input);
+        return this.suggestionsFuture(context, component, input, executor, fork)
+                .thenAcceptAsync(slot::fill, executor)
                 .thenApply(in -> context);
     }
 
+    /**
+     * Invokes the suggestion provider of the given {@code component}, bounded by the deadlines of the request. Providers
+     * are not invoked once the request has timed out, and providers that miss a deadline contribute no suggestions.
+     *
+     * @param context   the suggestion context
+     * @param component the component to get suggestions from
+     * @param input     the input from the sender
+     * @param executor  executor to schedule blocking providers and to complete timed out futures on
+     * @param fork      whether blocking providers should be scheduled on the executor
+     * @return future that completes with the suggestions
+     */
+    private @NonNull CompletableFuture<? extends Iterable<? extends @NonNull Suggestion>> suggestionsFuture(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandComponent<C> component,
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor,
+            final boolean fork
+    ) {
+        final SuggestionProvider<C> provider = component.suggestionProvider();
+        final CommandInput inputCopy = input.copy();
+        final CompletableFuture<? extends Iterable<? extends Suggestion>> future;
+        // Literal suggestions are too cheap to be worth scheduling
+        if (fork && provider instanceof BlockingSuggestionProvider && !(provider instanceof LiteralParser)) {
+            future = CompletableFutures.scheduleOn(
+                    executor,
+                    () -> provider.suggestionsFuture(context.commandContext(), inputCopy)
+            );
+        } else {
+            future = provider.suggestionsFuture(context.commandContext(), inputCopy);
+        }
+
+        final SuggestionTimeouts<C> timeouts = context.timeouts();
+        if (!timeouts.enabled()) {
+            return future;
+        }
+        return timeouts.<Iterable<? extends Suggestion>>bound(
+                context,
+                component,
+                future,
+                Collections.emptyList(),
+                executor
+        );
+    }
+
     /**
      * Inserts a new command into the command tree and then verifies the integrity of the tree
      *
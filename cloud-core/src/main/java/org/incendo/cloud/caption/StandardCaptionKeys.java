@@ -106,6 +106,10 @@ public final class StandardCaptionKeys {
      * Variables: {@code <input>}, {@code <primary>}, {@code <fallback>}
      */
     public static final Caption ARGUMENT_PARSE_FAILURE_EITHER = of("argument.parse.failure.either");
+    /**
+     * Variables: {@code <input>}
+     */
+    public static final Caption ARGUMENT_PARSE_FAILURE_BULK = of("argument.parse.failure.bulk");
 
     public static final Caption EXCEPTION_UNEXPECTED = of("exception.unexpected");
     /**
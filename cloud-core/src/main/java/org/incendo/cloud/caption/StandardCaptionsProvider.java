@@ -102,6 +102,10 @@ public final class StandardCaptionsProvider<C> extends DelegatingCaptionProvider
      * Default caption for {@link StandardCaptionKeys#ARGUMENT_PARSE_FAILURE_EITHER}
      */
     public static final String ARGUMENT_PARSE_FAILURE_EITHER = "Could not resolve <primary> or <fallback> from '<input>'";
+    /**
+     * Default caption for {@link StandardCaptionKeys#ARGUMENT_PARSE_FAILURE_BULK}
+     */
+    public static final String ARGUMENT_PARSE_FAILURE_BULK = "No value could be found for '<input>'";
 
     /**
      * Default caption for {@link StandardCaptionKeys#EXCEPTION_UNEXPECTED}
@@ -181,6 +185,9 @@ public final class StandardCaptionsProvider<C> extends DelegatingCaptionProvider
             ).putCaption(
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_EITHER,
                     ARGUMENT_PARSE_FAILURE_EITHER
+            ).putCaption(
+                    StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_BULK,
+                    ARGUMENT_PARSE_FAILURE_BULK
             ).putCaption(
                     StandardCaptionKeys.EXCEPTION_UNEXPECTED,
                     EXCEPTION_UNEXPECTED
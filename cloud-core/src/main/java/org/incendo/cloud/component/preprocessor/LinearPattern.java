@@ -0,0 +1,858 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.component.preprocessor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Regular expression matcher that runs in linear time in the length of the input.
+ *
+ * <p>The pattern is compiled into a Thompson NFA, which is simulated using a DFA that is built lazily and cached
+ * between invocations. Only a subset of the {@link java.util.regex.Pattern} syntax is supported: literals, {@code .},
+ * character classes without unions or intersections, the predefined classes {@code \d \D \s \S \w \W}, groups,
+ * alternation, greedy and lazy quantifiers, and the {@code ^} and {@code $} anchors.</p>
+ *
+ * <p>The matcher has the same semantics as {@link java.util.regex.Matcher#find()} for inputs without line terminators and
+ * surrogate characters. Other inputs must be matched using {@link java.util.regex.Pattern}, see
+ * {@link #supportsInput(CharSequence)}.</p>
+ */
+final class LinearPattern {
+
+    private static final int MAX_NFA_STATES = 4096;
+    private static final int MAX_CACHED_DFA_STATES = 1024;
+    private static final int MAX_CACHED_TRANSITIONS = 256;
+    private static final int ASCII_SIZE = 128;
+    private static final int MAX_CHAR = Character.MAX_VALUE;
+
+    private static final int[] ANY = {0, MAX_CHAR};
+    private static final int[] DIGIT = {'0', '9'};
+    private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+    private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+    private static final int[] NOT_DIGIT = complement(DIGIT);
+    private static final int[] NOT_WORD = complement(WORD);
+    private static final int[] NOT_SPACE = complement(SPACE);
+
+    private static final int SET = 0;
+    private static final int SPLIT = 1;
+    private static final int BEGIN = 2;
+    private static final int END = 3;
+    private static final int MATCH = 4;
+
+    private final int[] types;
+    private final int[] outs;
+    private final int[] alternativeOuts;
+    private final int[][] sets;
+    private final int start;
+    private final DfaState initialState;
+    private final Map<StateSet, DfaState> dfaStates = new ConcurrentHashMap<>();
+
+    private LinearPattern(final @NonNull List<NfaState> states, final @NonNull NfaState start) {
+        this.types = new int[states.size()];
+        this.outs = new int[states.size()];
+        this.alternativeOuts = new int[states.size()];
+        this.sets = new int[states.size()][];
+        for (final NfaState state : states) {
+            this.types[state.id] = state.type;
+            this.outs[state.id] = state.out == null ? -1 : state.out.id;
+            this.alternativeOuts[state.id] = state.alternativeOut == null ? -1 : state.alternativeOut.id;
+            this.sets[state.id] = state.set;
+        }
+        this.start = start.id;
+        this.initialState = this.dfaState(this.closure(new int[]{this.start}, 1, true));
+    }
+
+    /**
+     * Compiles the given {@code pattern}, which must be a valid {@link java.util.regex.Pattern}.
+     *
+     * @param pattern the pattern
+     * @return the compiled pattern, or {@code null} if the pattern uses unsupported syntax
+     */
+    static @Nullable LinearPattern compile(final @NonNull String pattern) {
+        try {
+            final Node node = new Parser(pattern).parse();
+            final List<NfaState> states = new ArrayList<>();
+            final NfaState match = NfaState.create(states, MATCH);
+            final NfaState start = node.compile(states, match);
+            return new LinearPattern(states, start);
+        } catch (final UnsupportedPatternException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given {@code input} can be matched by this matcher. Inputs containing line terminators or
+     * surrogate characters are not supported, as {@code .} and {@code $} treat line terminators specially, and
+     * {@link java.util.regex.Pattern} matches code points rather than characters.
+     *
+     * @param input the input
+     * @return {@code true} if the input is supported
+     */
+    static boolean supportsInput(final @NonNull CharSequence input) {
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029' || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the pattern matches any subsequence of the given {@code input}.
+     *
+     * @param input the input, which must be {@link #supportsInput(CharSequence) supported}
+     * @return {@code true} if the pattern was found in the input
+     */
+    boolean find(final @NonNull CharSequence input) {
+        if (input.length() == 0) {
+            return this.initialState.match || this.endMatches(this.initialState.nfaStates, true);
+        }
+        DfaState state = this.initialState;
+        for (int i = 0; i < input.length(); i++) {
+            if (state.match) {
+                return true;
+            }
+            if (state.dead) {
+                return false;
+            }
+            state = state.next(this, input.charAt(i));
+        }
+        return state.match || state.endMatch;
+    }
+
+    /**
+     * Returns the number of DFA states that are reachable through the memoized transitions, including the initial state.
+     *
+     * @return the number of retained DFA states
+     */
+    int retainedStates() {
+        final Set<DfaState> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<DfaState> pending = new ArrayDeque<>();
+        pending.add(this.initialState);
+        while (!pending.isEmpty()) {
+            final DfaState state = pending.poll();
+            if (!visited.add(state)) {
+                continue;
+            }
+            for (final DfaState next : state.asciiTransitions) {
+                if (next != null) {
+                    pending.add(next);
+                }
+            }
+            pending.addAll(state.transitions.values());
+        }
+        return visited.size();
+    }
+
+    private @NonNull DfaState dfaState(final int @NonNull [] nfaStates) {
+        final StateSet key = new StateSet(nfaStates);
+        final DfaState cached = this.dfaStates.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Once the cache is full the remaining states are computed for every transition, which is still linear. Uncached
+        // states are never stored as the transition of another state, so the retained states stay bounded.
+        final boolean cache = this.dfaStates.size() < MAX_CACHED_DFA_STATES;
+        final DfaState state = new DfaState(
+                nfaStates,
+                this.contains(nfaStates, MATCH),
+                this.endMatches(nfaStates, false),
+                nfaStates.length == 0,
+                cache
+        );
+        if (cache) {
+            final DfaState previous = this.dfaStates.putIfAbsent(key, state);
+            return previous == null ? state : previous;
+        }
+        return state;
+    }
+
+    private @NonNull DfaState transition(final @NonNull DfaState from, final char c) {
+        final int[] moved = new int[from.nfaStates.length + 1];
+        int size = 0;
+        for (final int state : from.nfaStates) {
+            if (this.types[state] == SET && contains(this.sets[state], c)) {
+                moved[size++] = this.outs[state];
+            }
+        }
+        // The pattern may start matching at every position of the input.
+        moved[size++] = this.start;
+        return this.dfaState(this.closure(moved, size, false));
+    }
+
+    private int @NonNull [] closure(final int @NonNull [] states, final int size, final boolean atStart) {
+        final boolean[] visited = new boolean[this.types.length];
+        final int[] stack = new int[this.types.length];
+        final int[] result = new int[this.types.length];
+        int resultSize = 0;
+        int stackSize = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            stack[stackSize++] = states[i];
+        }
+        while (stackSize > 0) {
+            final int state = stack[--stackSize];
+            if (state < 0 || visited[state]) {
+                continue;
+            }
+            visited[state] = true;
+            switch (this.types[state]) {
+                case SPLIT:
+                    stack[stackSize++] = this.alternativeOuts[state];
+                    stack[stackSize++] = this.outs[state];
+                    break;
+                case BEGIN:
+                    if (atStart) {
+                        stack[stackSize++] = this.outs[state];
+                    }
+                    break;
+                default:
+                    // END states are kept, and are only followed once the end of the input has been reached.
+                    result[resultSize++] = state;
+                    break;
+            }
+        }
+        final int[] closure = Arrays.copyOf(result, resultSize);
+        Arrays.sort(closure);
+        return closure;
+    }
+
+    private boolean endMatches(final int @NonNull [] nfaStates, final boolean atStart) {
+        // Follows the $ anchors, which may lead to further anchors, until a match is found.
+        final boolean[] visited = new boolean[this.types.length];
+        final int[] pending = new int[this.types.length];
+        int size = 0;
+        for (final int state : nfaStates) {
+            if (this.types[state] == END) {
+                visited[state] = true;
+                pending[size++] = state;
+            }
+        }
+        while (size > 0) {
+            final int[] closure = this.closure(new int[]{this.outs[pending[--size]]}, 1, atStart);
+            for (final int state : closure) {
+                if (this.types[state] == MATCH) {
+                    return true;
+                }
+                if (this.types[state] == END && !visited[state]) {
+                    visited[state] = true;
+                    pending[size++] = state;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(final int @NonNull [] nfaStates, final int type) {
+        for (final int state : nfaStates) {
+            if (this.types[state] == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(final int @NonNull [] ranges, final char c) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (c < ranges[i]) {
+                return false;
+            }
+            if (c <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the union of the given sorted and normalized ranges.
+     *
+     * @param first  the first ranges
+     * @param second the second ranges
+     * @return the union
+     */
+    static int @NonNull [] union(final int @NonNull [] first, final int @NonNull [] second) {
+        final int[] all = new int[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return normalize(all, all.length);
+    }
+
+    /**
+     * Returns the complement of the given sorted and normalized ranges.
+     *
+     * @param ranges the ranges
+     * @return the complement
+     */
+    static int @NonNull [] complement(final int @NonNull [] ranges) {
+        final int[] result = new int[ranges.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[size++] = next;
+                result[size++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX_CHAR) {
+            result[size++] = next;
+            result[size++] = MAX_CHAR;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int @NonNull [] normalize(final int @NonNull [] ranges, final int size) {
+        final long[] packed = new long[size / 2];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ((long) ranges[i * 2] << 32) | ranges[i * 2 + 1];
+        }
+        Arrays.sort(packed);
+        final int[] result = new int[size];
+        int resultSize = 0;
+        for (final long range : packed) {
+            final int low = (int) (range >>> 32);
+            final int high = (int) range;
+            if (resultSize > 0 && low <= result[resultSize - 1] + 1) {
+                result[resultSize - 1] = Math.max(result[resultSize - 1], high);
+            } else {
+                result[resultSize++] = low;
+                result[resultSize++] = high;
+            }
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+
+    /**
+     * State of the lazily built DFA.
+     */
+    private static final class DfaState {
+
+        private final int[] nfaStates;
+        private final boolean match;
+        private final boolean endMatch;
+        private final boolean dead;
+        private final boolean cached;
+        private final DfaState[] asciiTransitions = new DfaState[ASCII_SIZE];
+        private final Map<Character, DfaState> transitions = new ConcurrentHashMap<>();
+
+        private DfaState(
+                final int @NonNull [] nfaStates,
+                final boolean match,
+                final boolean endMatch,
+                final boolean dead,
+                final boolean cached
+        ) {
+            this.nfaStates = nfaStates;
+            this.match = match;
+            this.endMatch = endMatch;
+            this.dead = dead;
+            this.cached = cached;
+        }
+
+        private @NonNull DfaState next(final @NonNull LinearPattern pattern, final char c) {
+            // The transitions are cached racily. Concurrent callers compute equal states, and DfaState is safely published
+            // through its final fields. Only transitions between cached states are memoized.
+            if (c < ASCII_SIZE) {
+                DfaState next = this.asciiTransitions[c];
+                if (next == null) {
+                    next = pattern.transition(this, c);
+                    if (this.cached && next.cached) {
+                        this.asciiTransitions[c] = next;
+                    }
+                }
+                return next;
+            }
+            final DfaState next = this.transitions.get(c);
+            if (next != null) {
+                return next;
+            }
+            final DfaState computed = pattern.transition(this, c);
+            if (this.cached && computed.cached && this.transitions.size() < MAX_CACHED_TRANSITIONS) {
+                this.transitions.putIfAbsent(c, computed);
+            }
+            return computed;
+        }
+    }
+
+
+    /**
+     * Set of NFA states, used as the key of a DFA state.
+     */
+    private static final class StateSet {
+
+        private final int[] states;
+        private final int hash;
+
+        private StateSet(final int @NonNull [] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof StateSet && Arrays.equals(this.states, ((StateSet) o).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+
+    /**
+     * Mutable NFA state, used while compiling the pattern.
+     */
+    private static final class NfaState {
+
+        private final int id;
+        private final int type;
+        private int[] set;
+        private NfaState out;
+        private NfaState alternativeOut;
+
+        private NfaState(final int id, final int type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        private static @NonNull NfaState create(final @NonNull List<NfaState> states, final int type) {
+            if (states.size() >= MAX_NFA_STATES) {
+                throw new UnsupportedPatternException();
+            }
+            final NfaState state = new NfaState(states.size(), type);
+            states.add(state);
+            return state;
+        }
+    }
+
+
+    /**
+     * Node of the parsed pattern.
+     */
+    private interface Node {
+
+        /**
+         * Compiles this node into NFA states that continue with the given {@code next} state.
+         *
+         * @param states the list of all states
+         * @param next   the state to continue with after this node has matched
+         * @return the first state of this node
+         */
+        @NonNull NfaState compile(@NonNull List<NfaState> states, @NonNull NfaState next);
+    }
+
+
+    private static final class CharSetNode implements Node {
+
+        private final int[] set;
+
+        private CharSetNode(final int @NonNull [] set) {
+            this.set = set;
+        }
+
+        @Override
+        public @NonNull NfaState compile(final @NonNull List<NfaState> states, final @NonNull NfaState next) {
+            final NfaState state = NfaState.create(states, SET);
+            state.set = this.set;
+            state.out = next;
+            return state;
+        }
+    }
+
+
+    private static final class AssertionNode implements Node {
+
+        private final int type;
+
+        private AssertionNode(final int type) {
+            this.type = type;
+        }
+
+        @Override
+        public @NonNull NfaState compile(final @NonNull List<NfaState> states, final @NonNull NfaState next) {
+            final NfaState state = NfaState.create(states, this.type);
+            state.out = next;
+            return state;
+        }
+    }
+
+
+    private static final class ConcatenationNode implements Node {
+
+        private final List<Node> nodes;
+
+        private ConcatenationNode(final @NonNull List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public @NonNull NfaState compile(final @NonNull List<NfaState> states, final @NonNull NfaState next) {
+            NfaState current = next;
+            for (int i = this.nodes.size() - 1; i >= 0; i--) {
+                current = this.nodes.get(i).compile(states, current);
+            }
+            return current;
+        }
+    }
+
+
+    private static final class AlternationNode implements Node {
+
+        private final List<Node> alternatives;
+
+        private AlternationNode(final @NonNull List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public @NonNull NfaState compile(final @NonNull List<NfaState> states, final @NonNull NfaState next) {
+            NfaState current = this.alternatives.get(this.alternatives.size() - 1).compile(states, next);
+            for (int i = this.alternatives.size() - 2; i >= 0; i--) {
+                final NfaState split = NfaState.create(states, SPLIT);
+                split.out = this.alternatives.get(i).compile(states, next);
+                split.alternativeOut = current;
+                current = split;
+            }
+            return current;
+        }
+    }
+
+
+    private static final class RepetitionNode implements Node {
+
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        private RepetitionNode(final @NonNull Node node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public @NonNull NfaState compile(final @NonNull List<NfaState> states, final @NonNull NfaState next) {
+            NfaState current = next;
+            if (this.max < 0) {
+                // Unbounded: a loop that may be left after every iteration.
+                final NfaState loop = NfaState.create(states, SPLIT);
+                loop.alternativeOut = next;
+                loop.out = this.node.compile(states, loop);
+                current = loop;
+            } else {
+                // Optional repetitions are nested, so that x{0,2} becomes (x(x)?)?.
+                for (int i = this.min; i < this.max; i++) {
+                    final NfaState split = NfaState.create(states, SPLIT);
+                    split.out = this.node.compile(states, current);
+                    split.alternativeOut = next;
+                    current = split;
+                }
+            }
+            for (int i = 0; i < this.min; i++) {
+                current = this.node.compile(states, current);
+            }
+            return current;
+        }
+    }
+
+
+    /**
+     * Recursive descent parser for the supported subset of the pattern syntax.
+     */
+    private static final class Parser {
+
+        private final String pattern;
+        private int position;
+
+        private Parser(final @NonNull String pattern) {
+            this.pattern = pattern;
+        }
+
+        private @NonNull Node parse() {
+            final Node node = this.alternation();
+            if (this.position != this.pattern.length()) {
+                throw new UnsupportedPatternException();
+            }
+            return node;
+        }
+
+        private boolean more() {
+            return this.position < this.pattern.length();
+        }
+
+        private char peek() {
+            return this.pattern.charAt(this.position);
+        }
+
+        private @NonNull Node alternation() {
+            final List<Node> alternatives = new ArrayList<>();
+            alternatives.add(this.concatenation());
+            while (this.more() && this.peek() == '|') {
+                this.position++;
+                alternatives.add(this.concatenation());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new AlternationNode(alternatives);
+        }
+
+        private @NonNull Node concatenation() {
+            final List<Node> nodes = new ArrayList<>();
+            while (this.more() && this.peek() != '|' && this.peek() != ')') {
+                nodes.add(this.repetition());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new ConcatenationNode(nodes);
+        }
+
+        private @NonNull Node repetition() {
+            Node node = this.atom();
+            while (this.more()) {
+                final int min;
+                final int max;
+                final char c = this.peek();
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    this.position++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    this.position++;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    this.position++;
+                } else if (c == '{') {
+                    this.position++;
+                    min = this.number();
+                    if (this.more() && this.peek() == ',') {
+                        this.position++;
+                        max = this.more() && this.peek() == '}' ? -1 : this.number();
+                    } else {
+                        max = min;
+                    }
+                    this.expect('}');
+                    if (max >= 0 && max < min) {
+                        throw new UnsupportedPatternException();
+                    }
+                } else {
+                    break;
+                }
+                if (this.more() && this.peek() == '?') {
+                    // Lazy quantifiers only affect which match is found, not whether there is one.
+                    this.position++;
+                } else if (this.more() && this.peek() == '+') {
+                    // Possessive quantifiers can make a pattern fail where a backtracking one would match.
+                    throw new UnsupportedPatternException();
+                }
+                node = new RepetitionNode(node, min, max);
+            }
+            return node;
+        }
+
+        private int number() {
+            final int start = this.position;
+            while (this.more() && this.peek() >= '0' && this.peek() <= '9' && this.position - start < 4) {
+                this.position++;
+            }
+            if (start == this.position || (this.more() && this.peek() >= '0' && this.peek() <= '9')) {
+                throw new UnsupportedPatternException();
+            }
+            return Integer.parseInt(this.pattern.substring(start, this.position));
+        }
+
+        private void expect(final char c) {
+            if (!this.more() || this.peek() != c) {
+                throw new UnsupportedPatternException();
+            }
+            this.position++;
+        }
+
+        private @NonNull Node atom() {
+            final char c = this.pattern.charAt(this.position++);
+            switch (c) {
+                case '(':
+                    if (this.more() && this.peek() == '?') {
+                        this.position++;
+                        if (this.more() && this.peek() == ':') {
+                            this.position++;
+                        } else if (this.more() && this.peek() == '<' && this.position + 1 < this.pattern.length()
+                                && Character.isLetter(this.pattern.charAt(this.position + 1))) {
+                            // Named groups only capture, which does not affect matching.
+                            this.position = this.pattern.indexOf('>', this.position) + 1;
+                        } else {
+                            throw new UnsupportedPatternException();
+                        }
+                    }
+                    final Node group = this.alternation();
+                    this.expect(')');
+                    return group;
+                case '[':
+                    return new CharSetNode(this.characterClass());
+                case '.':
+                    return new CharSetNode(ANY);
+                case '^':
+                    return new AssertionNode(BEGIN);
+                case '$':
+                    return new AssertionNode(END);
+                case '\\':
+                    return new CharSetNode(this.escape());
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedPatternException();
+                default:
+                    return new CharSetNode(new int[]{c, c});
+            }
+        }
+
+        private int @NonNull [] characterClass() {
+            boolean negated = false;
+            if (this.more() && this.peek() == '^') {
+                negated = true;
+                this.position++;
+            }
+            if (this.more() && this.peek() == ']') {
+                throw new UnsupportedPatternException();
+            }
+            int[] set = new int[0];
+            while (true) {
+                if (!this.more()) {
+                    throw new UnsupportedPatternException();
+                }
+                final char c = this.pattern.charAt(this.position++);
+                if (c == ']') {
+                    break;
+                }
+                if (c == '[' || (c == '&' && this.more() && this.peek() == '&')) {
+                    throw new UnsupportedPatternException();
+                }
+                final int[] item;
+                if (c == '\\') {
+                    item = this.escape();
+                } else {
+                    item = new int[]{c, c};
+                }
+                final boolean range = this.position + 1 < this.pattern.length() && this.peek() == '-'
+                        && this.pattern.charAt(this.position + 1) != ']';
+                if (!range) {
+                    set = union(set, item);
+                    continue;
+                }
+                this.position++;
+                final char high = this.pattern.charAt(this.position++);
+                final int[] highItem = high == '\\' ? this.escape() : new int[]{high, high};
+                if (item.length != 2 || item[0] != item[1] || highItem.length != 2 || highItem[0] != highItem[1]
+                        || highItem[0] < item[0] || high == '[') {
+                    throw new UnsupportedPatternException();
+                }
+                set = union(set, new int[]{item[0], highItem[0]});
+            }
+            return negated ? complement(set) : set;
+        }
+
+        private int @NonNull [] escape() {
+            if (!this.more()) {
+                throw new UnsupportedPatternException();
+            }
+            final char c = this.pattern.charAt(this.position++);
+            switch (c) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return NOT_DIGIT;
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return NOT_WORD;
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return NOT_SPACE;
+                case 't':
+                    return new int[]{'\t', '\t'};
+                case 'n':
+                    return new int[]{'\n', '\n'};
+                case 'r':
+                    return new int[]{'\r', '\r'};
+                case 'f':
+                    return new int[]{'\f', '\f'};
+                case 'a':
+                    return new int[]{'\u0007', '\u0007'};
+                case 'e':
+                    return new int[]{'\u001B', '\u001B'};
+                case 'x':
+                    return this.hexadecimal(2);
+                case 'u':
+                    return this.hexadecimal(4);
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        // Back references, boundaries, properties, quoting and other escapes are not supported.
+                        throw new UnsupportedPatternException();
+                    }
+                    return new int[]{c, c};
+            }
+        }
+
+        private int @NonNull [] hexadecimal(final int digits) {
+            if (this.position + digits > this.pattern.length()) {
+                throw new UnsupportedPatternException();
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                final int digit = Character.digit(this.pattern.charAt(this.position++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedPatternException();
+                }
+                value = value * 16 + digit;
+            }
+            return new int[]{value, value};
+        }
+    }
+
+
+    /**
+     * Thrown when the pattern uses syntax that is not supported by the linear matcher.
+     */
+    private static final class UnsupportedPatternException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedPatternException() {
+            super(null, null, false /* enableSuppression */, false /* writableStackTrace */);
+        }
+    }
+}
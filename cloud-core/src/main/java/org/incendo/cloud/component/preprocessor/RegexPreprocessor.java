@@ -49,10 +49,11 @@ public final class RegexPreprocessor<C> implements ComponentPreprocessor<C> {
 
     private RegexPreprocessor(
             final @NonNull String pattern,
-            final @NonNull Caption failureCaption
+            final @NonNull Caption failureCaption,
+            final @NonNull Engine engine
     ) {
         this.rawPattern = pattern;
-        this.predicate = Pattern.compile(pattern).asPredicate();
+        this.predicate = engine.compile(pattern);
         this.failureCaption = failureCaption;
     }
 
@@ -80,7 +81,25 @@ public final class RegexPreprocessor<C> implements ComponentPreprocessor<C> {
             final @NonNull String pattern,
             final @NonNull Caption failureCaption
     ) {
-        return new RegexPreprocessor<>(pattern, failureCaption);
+        return of(pattern, failureCaption, Engine.JAVA);
+    }
+
+    /**
+     * Create a new preprocessor that matches using the given {@code engine}
+     *
+     * @param pattern        Regular expression
+     * @param <C>            Command sender type
+     * @param failureCaption Caption sent when the input is invalid
+     * @param engine         Engine used to match the input
+     * @return Preprocessor instance
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static <C> @NonNull RegexPreprocessor<C> of(
+            final @NonNull String pattern,
+            final @NonNull Caption failureCaption,
+            final @NonNull Engine engine
+    ) {
+        return new RegexPreprocessor<>(pattern, failureCaption, engine);
     }
 
     @Override
@@ -103,6 +122,116 @@ public final class RegexPreprocessor<C> implements ComponentPreprocessor<C> {
     }
 
 
+    /**
+     * Engine used to match the input against the pattern
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public enum Engine {
+        /**
+         * Matches using {@link Pattern}. Patterns with nested quantifiers may take exponential time on crafted input.
+         */
+        JAVA {
+            @Override
+            @NonNull Predicate<@NonNull String> compile(final @NonNull String pattern) {
+                return Pattern.compile(pattern).asPredicate();
+            }
+        },
+        /**
+         * Matches in linear time using a lazily built DFA.
+         *
+         * <p>Patterns using back references, lookaround, boundaries, possessive quantifiers, flags, nested character
+         * classes or unicode properties, and inputs containing line terminators or surrogate characters, are matched
+         * using {@link Pattern} with a budget proportional to the length of the input instead. Input that exceeds the
+         * budget is rejected.</p>
+         */
+        LINEAR {
+            @Override
+            @NonNull Predicate<@NonNull String> compile(final @NonNull String pattern) {
+                final Pattern compiled = Pattern.compile(pattern);
+                final LinearPattern linear = LinearPattern.compile(pattern);
+                return input -> {
+                    if (linear != null && LinearPattern.supportsInput(input)) {
+                        return linear.find(input);
+                    }
+                    try {
+                        return compiled.matcher(new BudgetedCharSequence(input)).find();
+                    } catch (final BudgetExceededException e) {
+                        return false;
+                    }
+                };
+            }
+        };
+
+        abstract @NonNull Predicate<@NonNull String> compile(@NonNull String pattern);
+    }
+
+
+    /**
+     * Character sequence that limits the number of character reads performed by {@link Pattern}.
+     */
+    private static final class BudgetedCharSequence implements CharSequence {
+
+        private static final int STEPS_PER_CHARACTER = 1000;
+
+        private final CharSequence sequence;
+        private final int offset;
+        private final int length;
+        private final long[] remainingSteps;
+
+        private BudgetedCharSequence(final @NonNull CharSequence sequence) {
+            this(sequence, 0, sequence.length(), new long[]{(sequence.length() + 1L) * STEPS_PER_CHARACTER});
+        }
+
+        private BudgetedCharSequence(
+                final @NonNull CharSequence sequence,
+                final int offset,
+                final int length,
+                final long @NonNull [] remainingSteps
+        ) {
+            this.sequence = sequence;
+            this.offset = offset;
+            this.length = length;
+            this.remainingSteps = remainingSteps;
+        }
+
+        @Override
+        public int length() {
+            return this.length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (--this.remainingSteps[0] < 0) {
+                throw new BudgetExceededException();
+            }
+            return this.sequence.charAt(this.offset + index);
+        }
+
+        @Override
+        public @NonNull CharSequence subSequence(final int start, final int end) {
+            return new BudgetedCharSequence(this.sequence, this.offset + start, end - start, this.remainingSteps);
+        }
+
+        @Override
+        public @NonNull String toString() {
+            return this.sequence.subSequence(this.offset, this.offset + this.length).toString();
+        }
+    }
+
+
+    /**
+     * Thrown when {@link Pattern} exceeds the budget of a {@link BudgetedCharSequence}.
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private BudgetExceededException() {
+            super(null, null, false /* enableSuppression */, false /* writableStackTrace */);
+        }
+    }
+
+
     /**
      * Exception thrown when input fails regex matching in {@link RegexPreprocessor}
      */
@@ -25,12 +25,12 @@ package org.incendo.cloud.context;
 
 import io.leangen.geantyref.TypeToken;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
@@ -48,21 +48,27 @@ import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.key.MutableCloudKeyContainer;
 import org.incendo.cloud.parser.flag.FlagContext;
 import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.setting.ManagerSetting;
 import org.incendo.cloud.util.annotation.AnnotationAccessor;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Command context used to assist in the parsing of commands
+ * <p>
+ * The stored values and parsing contexts may be accessed from multiple threads at once, as suggestion providers may be
+ * invoked on an executor while the sibling components are being parsed. As a consequence, {@code null} values cannot be
+ * stored, and attempting to do so throws a {@link NullPointerException}. Use {@link #set(CloudKey, Object)} to store a
+ * value that may be {@code null}, which removes the stored value instead.
  *
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
 public class CommandContext<C> implements MutableCloudKeyContainer {
 
-    private final List<ParsingContext<C>> parsingContexts = new LinkedList<>();
+    private final List<ParsingContext<C>> parsingContexts = new CopyOnWriteArrayList<>();
     private final FlagContext flagContext = FlagContext.create();
-    private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
+    private final Map<CloudKey<?>, Object> internalStorage = new ConcurrentHashMap<>();
     private final C commandSender;
     private final boolean suggestions;
     private final CaptionRegistry<C> captionRegistry;
@@ -203,6 +209,17 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.commandManager.hasPermission(this.commandSender, permission);
     }
 
+    /**
+     * Returns whether the given {@code setting} is enabled in the manager that created this context.
+     *
+     * @param setting the setting
+     * @return {@code true} if the setting is enabled, else {@code false}
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public boolean setting(final @NonNull ManagerSetting setting) {
+        return this.commandManager != null && this.commandManager.settings().get(setting);
+    }
+
     /**
      * Checks if this context was created for tab completion purposes.
      *
@@ -217,7 +234,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull String key, final T value) {
-        this.internalStorage.put(CloudKey.of(key), value);
+        this.internalStorage.put(CloudKey.of(key), requireNonNullValue(key, value));
     }
 
     /**
@@ -225,7 +242,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull CloudKey<T> key, final T value) {
-        this.internalStorage.put(key, value);
+        this.internalStorage.put(key, requireNonNullValue(key.name(), value));
     }
 
     /**
@@ -280,11 +297,17 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull CloudKey<T> key,
             final @NonNull Function<CloudKey<T>, T> defaultFunction
     ) {
-        @SuppressWarnings("unchecked") final T castedValue = (T) this.internalStorage.computeIfAbsent(
-                key,
-                k -> defaultFunction.apply((CloudKey<T>) k)
-        );
-        return castedValue;
+        // The function is invoked outside of the map, as it may store other values in this context
+        @SuppressWarnings("unchecked") final T existing = (T) this.internalStorage.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final T computed = defaultFunction.apply(key);
+        if (computed == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked") final T raced = (T) this.internalStorage.putIfAbsent(key, computed);
+        return raced == null ? computed : raced;
     }
 
     /**
@@ -432,4 +455,8 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
     public final @NonNull Map<CloudKey<?>, ? extends @NonNull Object> all() {
         return Collections.unmodifiableMap(this.internalStorage);
     }
+
+    private static <T> @NonNull T requireNonNullValue(final @NonNull String key, final T value) {
+        return requireNonNull(value, () -> "Cannot store null for key '" + key + "', use set(key, null) to remove the value instead");
+    }
 }
@@ -54,9 +54,11 @@ public abstract class NumberParseException extends ParserException {
                 parser.getClass(),
                 context,
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NUMBER,
-                CaptionVariable.of("input", input),
-                CaptionVariable.of("min", String.valueOf(parser.range().min())),
-                CaptionVariable.of("max", String.valueOf(parser.range().max()))
+                () -> new CaptionVariable[]{
+                        CaptionVariable.of("input", input),
+                        CaptionVariable.of("min", String.valueOf(parser.range().min())),
+                        CaptionVariable.of("max", String.valueOf(parser.range().max()))
+                }
         );
         this.input = input;
         this.parser = parser;
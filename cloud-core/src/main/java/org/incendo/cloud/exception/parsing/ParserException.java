@@ -24,6 +24,7 @@
 package org.incendo.cloud.exception.parsing;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -31,6 +32,7 @@ import org.incendo.cloud.caption.Caption;
 import org.incendo.cloud.caption.CaptionFormatter;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.setting.ManagerSetting;
 
 @SuppressWarnings("serial")
 @API(status = API.Status.STABLE)
@@ -39,7 +41,10 @@ public class ParserException extends IllegalArgumentException {
     private final Class<?> argumentParser;
     private final CommandContext<?> context;
     private final Caption errorCaption;
-    private final CaptionVariable[] captionVariables;
+    private final boolean stackless;
+    private @Nullable Supplier<@NonNull CaptionVariable @NonNull []> captionVariableSupplier;
+    private @NonNull CaptionVariable @Nullable [] captionVariables;
+    private @Nullable String message;
 
     protected ParserException(
             final @Nullable Throwable cause,
@@ -48,25 +53,100 @@ public class ParserException extends IllegalArgumentException {
             final @NonNull Caption errorCaption,
             final @NonNull CaptionVariable... captionVariables
     ) {
-        super(cause);
+        this(cause, argumentParser, context, errorCaption, (Supplier<CaptionVariable[]>) null);
+        this.captionVariables = captionVariables;
+    }
+
+    protected ParserException(
+            final @NonNull Class<?> argumentParser,
+            final @NonNull CommandContext<?> context,
+            final @NonNull Caption errorCaption,
+            final @NonNull CaptionVariable... captionVariables
+    ) {
+        this(null /* cause */, argumentParser, context, errorCaption, captionVariables);
+    }
+
+    /**
+     * Creates a new parser exception with caption variables that are created once they're first needed, which is never
+     * for exceptions that are discarded without being formatted.
+     *
+     * @param cause            the cause
+     * @param argumentParser   the argument parser class
+     * @param context          the command context
+     * @param errorCaption     the error caption
+     * @param captionVariables supplier of the caption variables
+     */
+    @API(status = API.Status.STABLE)
+    protected ParserException(
+            final @Nullable Throwable cause,
+            final @NonNull Class<?> argumentParser,
+            final @NonNull CommandContext<?> context,
+            final @NonNull Caption errorCaption,
+            final @Nullable Supplier<@NonNull CaptionVariable @NonNull []> captionVariables
+    ) {
+        // The message is formatted by getMessage, so the message of the cause doesn't have to be formatted here
+        super(null /* message */, cause);
         this.argumentParser = argumentParser;
         this.context = context;
         this.errorCaption = errorCaption;
-        this.captionVariables = captionVariables;
+        this.captionVariableSupplier = captionVariables;
+        this.stackless = context.setting(ManagerSetting.STACKLESS_PARSER_EXCEPTIONS);
+        if (!this.stackless) {
+            super.fillInStackTrace();
+        }
     }
 
+    /**
+     * Creates a new parser exception with caption variables that are created once they're first needed, which is never
+     * for exceptions that are discarded without being formatted.
+     *
+     * @param argumentParser   the argument parser class
+     * @param context          the command context
+     * @param errorCaption     the error caption
+     * @param captionVariables supplier of the caption variables
+     */
+    @API(status = API.Status.STABLE)
     protected ParserException(
             final @NonNull Class<?> argumentParser,
             final @NonNull CommandContext<?> context,
             final @NonNull Caption errorCaption,
-            final @NonNull CaptionVariable... captionVariables
+            final @NonNull Supplier<@NonNull CaptionVariable @NonNull []> captionVariables
     ) {
         this(null /* cause */, argumentParser, context, errorCaption, captionVariables);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The stack trace is not captured if {@link ManagerSetting#STACKLESS_PARSER_EXCEPTIONS} is enabled.</p>
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // The Throwable constructor invokes this before the setting is known, in which case the constructor of this class
+        // fills in the stack trace instead
+        if (this.context == null || this.stackless) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     @Override
     public final String getMessage() {
-        return this.context.formatCaption(this.errorCaption, this.captionVariables);
+        String message = this.message;
+        if (message == null) {
+            message = this.context.formatCaption(this.errorCaption, this.resolveCaptionVariables());
+            this.message = message;
+        }
+        return message;
+    }
+
+    private synchronized @NonNull CaptionVariable @NonNull [] resolveCaptionVariables() {
+        if (this.captionVariables == null) {
+            final Supplier<CaptionVariable[]> supplier = this.captionVariableSupplier;
+            this.captionVariables = supplier == null ? new CaptionVariable[0] : supplier.get();
+            this.captionVariableSupplier = null;
+        }
+        return this.captionVariables;
     }
 
     /**
@@ -79,7 +159,7 @@ public class ParserException extends IllegalArgumentException {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @API(status = API.Status.STABLE)
     public final <T> @NonNull T formatCaption(final @NonNull CaptionFormatter<?, T> formatter) {
-        return (T) this.context.formatCaption((CaptionFormatter) formatter, this.errorCaption, this.captionVariables());
+        return (T) this.context.formatCaption((CaptionFormatter) formatter, this.errorCaption, this.resolveCaptionVariables());
     }
 
     /**
@@ -100,7 +180,8 @@ public class ParserException extends IllegalArgumentException {
      */
     @API(status = API.Status.STABLE)
     public @NonNull CaptionVariable @NonNull [] captionVariables() {
-        return Arrays.copyOf(this.captionVariables, this.captionVariables.length);
+        final CaptionVariable[] captionVariables = this.resolveCaptionVariables();
+        return Arrays.copyOf(captionVariables, captionVariables.length);
     }
 
     /**
@@ -23,18 +23,24 @@
 //
 package org.incendo.cloud.execution;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.checkerframework.dataflow.qual.Pure;
 import org.incendo.cloud.CommandTree;
+import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestions;
 
 /**
@@ -122,6 +128,19 @@ public interface ExecutionCoordinator<C> {
             @NonNull SuggestionMapper<S> mapper
     );
 
+    /**
+     * Returns how many times the {@link SuggestionProvider suggestion provider} of each component has been skipped
+     * because it missed the {@link Builder#suggestionProviderTimeout(Duration) provider deadline} or the
+     * {@link Builder#suggestionsTimeout(Duration) request deadline}.
+     *
+     * <p>Components whose providers have never timed out are not included.</p>
+     *
+     * @return snapshot of the timed out provider counts
+     */
+    default @NonNull Map<@NonNull CommandComponent<C>, @NonNull Long> timedOutSuggestionProviders() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Returns the non-scheduling executor. This is an executor that simply invokes {@link Runnable#run()} immediately on the
      * calling thread of {@link Executor#execute(Runnable)}.
@@ -195,6 +214,39 @@ public interface ExecutionCoordinator<C> {
          */
         @This @NonNull Builder<C> executionSchedulingExecutor(@NonNull Executor executor);
 
+        /**
+         * Sets the maximum time to wait for a single {@link SuggestionProvider}. Providers that take longer are skipped
+         * and contribute no suggestions, while the remaining providers are still consulted.
+         *
+         * <p>By default, providers are awaited indefinitely.</p>
+         *
+         * @param timeout the maximum time to wait for a provider
+         * @return this builder
+         */
+        @This @NonNull Builder<C> suggestionProviderTimeout(@NonNull Duration timeout);
+
+        /**
+         * Sets the maximum time to wait for a suggestion request. Once the deadline has passed, the suggestions that have been
+         * gathered so far are returned and the providers that are still pending are skipped.
+         *
+         * <p>By default, suggestion requests are awaited indefinitely.</p>
+         *
+         * @param timeout the maximum time to wait for a suggestion request
+         * @return this builder
+         */
+        @This @NonNull Builder<C> suggestionsTimeout(@NonNull Duration timeout);
+
+        /**
+         * Sets the scheduler that suggestion deadlines are scheduled on. Timed out suggestion logic continues on the
+         * {@link #suggestionsExecutor(Executor) suggestions executor}.
+         *
+         * <p>By default, a shared daemon thread is used.</p>
+         *
+         * @param scheduler the scheduler
+         * @return this builder
+         */
+        @This @NonNull Builder<C> suggestionTimeoutScheduler(@NonNull ScheduledExecutorService scheduler);
+
         /**
          * Sets the execution coordinator to disallow concurrent {@link CommandExecutionHandler command handler} execution.
          *
@@ -23,8 +23,10 @@
 //
 package org.incendo.cloud.execution;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -35,6 +37,9 @@ final class ExecutionCoordinatorBuilderImpl<C> implements ExecutionCoordinator.B
     private @Nullable Executor parsingExecutor;
     private @Nullable Executor suggestionsExecutor;
     private @Nullable Executor executionSchedulingExecutor;
+    private @Nullable Duration suggestionProviderTimeout;
+    private @Nullable Duration suggestionsTimeout;
+    private @Nullable ScheduledExecutorService suggestionTimeoutScheduler;
     private boolean synchronizeExecution = false;
 
     @Override
@@ -58,6 +63,27 @@ final class ExecutionCoordinatorBuilderImpl<C> implements ExecutionCoordinator.B
         return this;
     }
 
+    @Override
+    public ExecutionCoordinator.@NonNull Builder<C> suggestionProviderTimeout(final @NonNull Duration timeout) {
+        this.suggestionProviderTimeout = requirePositive(timeout);
+        return this;
+    }
+
+    @Override
+    public ExecutionCoordinator.@NonNull Builder<C> suggestionsTimeout(final @NonNull Duration timeout) {
+        this.suggestionsTimeout = requirePositive(timeout);
+        return this;
+    }
+
+    @Override
+    public ExecutionCoordinator.@NonNull Builder<C> suggestionTimeoutScheduler(
+            final @NonNull ScheduledExecutorService scheduler
+    ) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        this.suggestionTimeoutScheduler = scheduler;
+        return this;
+    }
+
     @Override
     public ExecutionCoordinator.@NonNull Builder<C> synchronizeExecution(final boolean synchronizeExecution) {
         this.synchronizeExecution = synchronizeExecution;
@@ -70,7 +96,18 @@ final class ExecutionCoordinatorBuilderImpl<C> implements ExecutionCoordinator.B
                 this.parsingExecutor,
                 this.suggestionsExecutor,
                 this.executionSchedulingExecutor,
-                this.synchronizeExecution
+                this.synchronizeExecution,
+                this.suggestionProviderTimeout,
+                this.suggestionsTimeout,
+                this.suggestionTimeoutScheduler
         );
     }
+
+    private static @NonNull Duration requirePositive(final @NonNull Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return timeout;
+    }
 }
@@ -23,18 +23,27 @@
 //
 package org.incendo.cloud.execution;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandTree;
+import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.CommandExecutionException;
 import org.incendo.cloud.exception.CommandParseException;
+import org.incendo.cloud.internal.SuggestionTimeouts;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
@@ -73,16 +82,31 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
 
     private final @Nullable Semaphore executionLock;
 
+    /**
+     * deadlines for suggestion providers and requests, and the number of times each component's provider was skipped
+     */
+    private final @NonNull SuggestionTimeouts<C> suggestionTimeouts;
+    private final Map<CommandComponent<C>, LongAdder> timedOutSuggestionProviders = new ConcurrentHashMap<>();
+
     ExecutionCoordinatorImpl(
             final @Nullable Executor parsingExecutor,
             final @Nullable Executor suggestionsExecutor,
             final @Nullable Executor defaultExecutionExecutor,
-            final boolean syncExecution
+            final boolean syncExecution,
+            final @Nullable Duration suggestionProviderTimeout,
+            final @Nullable Duration suggestionsTimeout,
+            final @Nullable ScheduledExecutorService suggestionTimeoutScheduler
     ) {
         this.parsingExecutor = orRunNow(parsingExecutor);
         this.suggestionsExecutor = orRunNow(suggestionsExecutor);
         this.defaultExecutionExecutor = orRunNow(defaultExecutionExecutor);
         this.executionLock = syncExecution ? new Semaphore(1) : null;
+        this.suggestionTimeouts = new SuggestionTimeouts<>(
+                suggestionProviderTimeout,
+                suggestionsTimeout,
+                suggestionTimeoutScheduler,
+                component -> this.timedOutSuggestionProviders.computeIfAbsent(component, $ -> new LongAdder()).increment()
+        );
     }
 
     private static @NonNull Executor orRunNow(final @Nullable Executor e) {
@@ -157,6 +181,16 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
             final @NonNull CommandInput commandInput,
             final @NonNull SuggestionMapper<S> mapper
     ) {
-        return commandTree.getSuggestions(context, commandInput, mapper, this.suggestionsExecutor);
+        if (!this.suggestionTimeouts.enabled()) {
+            return commandTree.getSuggestions(context, commandInput, mapper, this.suggestionsExecutor);
+        }
+        return commandTree.getSuggestions(context, commandInput, mapper, this.suggestionsExecutor, this.suggestionTimeouts);
+    }
+
+    @Override
+    public @NonNull Map<@NonNull CommandComponent<C>, @NonNull Long> timedOutSuggestionProviders() {
+        final Map<CommandComponent<C>, Long> counts = new HashMap<>();
+        this.timedOutSuggestionProviders.forEach((component, count) -> counts.put(component, count.sum()));
+        return Collections.unmodifiableMap(counts);
     }
 }
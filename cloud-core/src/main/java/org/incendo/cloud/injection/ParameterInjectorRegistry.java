@@ -38,6 +38,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.exception.InjectionException;
+import org.incendo.cloud.services.PreparedService;
 import org.incendo.cloud.services.ServicePipeline;
 import org.incendo.cloud.type.tuple.Pair;
 import org.incendo.cloud.util.annotation.AnnotationAccessor;
@@ -56,13 +57,16 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
 
     private final List<Pair<Predicate<TypeToken<?>>, ParameterInjector<C, ?>>> injectors = new ArrayList<>();
     private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
+    private final PreparedService<InjectionRequest<C>, Object> injectionServices;
 
     /**
      * Creates a new parameter injector registry
      */
     public ParameterInjectorRegistry() {
-        this.servicePipeline.registerServiceType(new TypeToken<InjectionService<C>>() {
-        }, this);
+        final TypeToken<InjectionService<C>> injectionServiceType = new TypeToken<InjectionService<C>>() {
+        };
+        this.servicePipeline.registerServiceType(injectionServiceType, this);
+        this.injectionServices = this.servicePipeline.prepare(injectionServiceType);
     }
 
     /**
@@ -174,8 +178,7 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
     ) {
         final InjectionRequest<C> request = InjectionRequest.of(context, type, annotationAccessor);
         try {
-            final Object rawResult = this.servicePipeline.pump(request).through(new TypeToken<InjectionService<C>>() {
-            }).complete();
+            final Object rawResult = this.injectionServices.complete(request);
 
             if (!request.injectedClass().isInstance(rawResult)) {
                 throw new IllegalStateException(String.format(
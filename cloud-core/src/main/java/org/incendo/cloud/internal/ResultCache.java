@@ -0,0 +1,223 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Bounded least-recently-used cache of expiring results, shared by the caching parsers and suggestion providers.
+ *
+ * <p>Results are loaded by the caller. A caller that misses the cache registers its load using
+ * {@link #join(Object, CompletableFuture)}, so that concurrent lookups of the same key can wait for it instead of
+ * loading the result again, and publishes the result using {@link #complete(Object, CompletableFuture, Object, long)}.
+ * Loads that complete with {@code null} are not shared, and waiting callers are expected to load the result
+ * themselves.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class ResultCache<K, V> {
+
+    private final LongSupplier ticker;
+    private final Map<K, CachedValue<V>> entries;
+    private final Map<K, CompletableFuture<@Nullable V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param ticker      the source of the current time in nanoseconds
+     */
+    public ResultCache(final int maximumSize, final @NonNull LongSupplier ticker) {
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75f, true /* accessOrder */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CachedValue<V>> eldest) {
+                if (this.size() > maximumSize) {
+                    ResultCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for the given {@code key}, if it has not yet expired.
+     *
+     * @param key the key
+     * @return the result, or {@code null}
+     */
+    public @Nullable V get(final @NonNull K key) {
+        synchronized (this.entries) {
+            final CachedValue<V> entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expired(this.ticker.getAsLong())) {
+                this.entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * Registers the given {@code load} as the pending load of the given {@code key}, unless another load is already
+     * pending.
+     *
+     * @param key  the key
+     * @param load the load of the caller, which must be completed using
+     *             {@link #complete(Object, CompletableFuture, Object, long)}
+     * @return the load that is already pending, or {@code null} if the caller is now responsible for loading the result
+     */
+    public @Nullable CompletableFuture<@Nullable V> join(
+            final @NonNull K key,
+            final @NonNull CompletableFuture<@Nullable V> load
+    ) {
+        return this.inFlight.putIfAbsent(key, load);
+    }
+
+    /**
+     * Completes a load that was registered using {@link #join(Object, CompletableFuture)}, and caches the result.
+     *
+     * @param key              the key
+     * @param load             the load to complete
+     * @param value            the result to share with the waiting callers, or {@code null} if they should not share it
+     * @param expireAfterNanos the time for which the result is cached, where {@code 0} means that the result is not
+     *                         cached and a negative value means that it never expires
+     */
+    public void complete(
+            final @NonNull K key,
+            final @NonNull CompletableFuture<@Nullable V> load,
+            final @Nullable V value,
+            final long expireAfterNanos
+    ) {
+        if (value != null && expireAfterNanos != 0) {
+            final CachedValue<V> entry = new CachedValue<>(value, this.ticker.getAsLong(), expireAfterNanos);
+            synchronized (this.entries) {
+                this.entries.put(key, entry);
+            }
+        }
+        this.inFlight.remove(key, load);
+        load.complete(value);
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including the ones that have expired but have not yet been discarded.
+     *
+     * @return the number of results
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of results that were discarded because the cache was full.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return this.evictions.sum();
+    }
+
+
+    /**
+     * Cache key consisting of a scope and the input that the result was computed for.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final class Key {
+
+        private final @Nullable Object scope;
+        private final String input;
+
+        /**
+         * Creates a new key.
+         *
+         * @param scope the scope, which results are only shared within
+         * @param input the input
+         */
+        public Key(final @Nullable Object scope, final @NonNull String input) {
+            this.scope = scope;
+            this.input = input;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return Objects.equals(this.scope, that.scope) && this.input.equals(that.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(this.scope) + this.input.hashCode();
+        }
+    }
+
+
+    private static final class CachedValue<V> {
+
+        private final V value;
+        private final long writeTime;
+        private final long expireAfterNanos;
+
+        private CachedValue(final @NonNull V value, final long writeTime, final long expireAfterNanos) {
+            this.value = value;
+            this.writeTime = writeTime;
+            this.expireAfterNanos = expireAfterNanos;
+        }
+
+        private boolean expired(final long now) {
+            return this.expireAfterNanos >= 0 && now - this.writeTime >= this.expireAfterNanos;
+        }
+    }
+}
@@ -25,28 +25,47 @@ package org.incendo.cloud.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
 import org.incendo.cloud.suggestion.SuggestionProcessor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestions;
 
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public final class SuggestionContext<C, S extends Suggestion> {
 
-    private final List<S> suggestions = new ArrayList<>();
+    /**
+     * Suggestions are stored as the iterables returned by the providers, so that they may be consumed lazily once
+     * {@link #makeSuggestions()} is invoked.
+     */
+    private final List<Iterable<? extends Suggestion>> suggestions = new ArrayList<>();
     private final CommandPreprocessingContext<C> preprocessingContext;
+    private final CommandInput commandInput;
     private final SuggestionMapper<S> mapper;
     private final SuggestionProcessor<C> processor;
     private final CommandContext<C> commandContext;
+    private final int limit;
+    private final SuggestionTimeouts<C> timeouts;
+    private final Set<Runnable> closeActions = new LinkedHashSet<>();
+    private boolean closed;
+    private SuggestionSessions.@Nullable Session<C> session;
 
     /**
      * Creates a new suggestion context
@@ -61,31 +80,87 @@ public final class SuggestionContext<C, S extends Suggestion> {
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput,
             final @NonNull SuggestionMapper<S> mapper
+    ) {
+        this(processor, commandContext, commandInput, mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new suggestion context
+     *
+     * @param processor      the suggestion processor
+     * @param commandContext the command context
+     * @param commandInput   the command input
+     * @param mapper         the suggestion mapper
+     * @param limit          the maximum number of suggestions to return
+     */
+    public SuggestionContext(
+            final @NonNull SuggestionProcessor<C> processor,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull SuggestionMapper<S> mapper,
+            final int limit
+    ) {
+        this(processor, commandContext, commandInput, mapper, limit, SuggestionTimeouts.none());
+    }
+
+    /**
+     * Creates a new suggestion context
+     *
+     * @param processor      the suggestion processor
+     * @param commandContext the command context
+     * @param commandInput   the command input
+     * @param mapper         the suggestion mapper
+     * @param limit          the maximum number of suggestions to return
+     * @param timeouts       the deadlines of the request
+     */
+    public SuggestionContext(
+            final @NonNull SuggestionProcessor<C> processor,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull SuggestionMapper<S> mapper,
+            final int limit,
+            final @NonNull SuggestionTimeouts<C> timeouts
     ) {
         this.processor = processor;
         this.commandContext = commandContext;
-        this.preprocessingContext = CommandPreprocessingContext.of(this.commandContext, commandInput);
+        // The traversal of the command tree moves the cursor of the given input, possibly after the context has been closed,
+        // so the suggestions are made using a copy that is only moved while the context is open.
+        this.commandInput = commandInput.copy();
+        this.preprocessingContext = CommandPreprocessingContext.of(this.commandContext, this.commandInput);
         this.mapper = mapper;
+        this.limit = limit;
+        this.timeouts = timeouts;
+        if (limit != Integer.MAX_VALUE) {
+            this.commandContext.store(SuggestionProvider.SUGGESTION_LIMIT_KEY, limit);
+        }
     }
 
     /**
      * Create {@link Suggestions} from the current context.
      *
+     * <p>The stored suggestions are pulled lazily through the processor, and no more suggestions are pulled once the
+     * limit has been reached. This {@link #close() closes} the context.</p>
+     *
      * @return suggestions
      */
     @SuppressWarnings("unchecked")
     public @NonNull Suggestions<C, S> makeSuggestions() {
-        final Stream<S> stream = this.suggestions.stream();
+        this.close();
+        final Stream<S> stream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new LazyIterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).map(this.mapper::map);
         final Stream<Suggestion> processedStream = this.processor.process(this.preprocessingContext, (Stream<Suggestion>) stream);
         final List<S> list;
         if (stream == processedStream) {
-            // don't re-collect with a pass-through processor
-            list = Collections.unmodifiableList(this.suggestions);
+            // don't re-map with a pass-through processor
+            list = Collections.unmodifiableList(stream.limit(this.limit).collect(Collectors.toList()));
         } else {
             list = Collections.unmodifiableList(
                     processedStream
                             .peek(obj -> Objects.requireNonNull(obj, "suggestion"))
                             .map(this.mapper::map)
+                            .limit(this.limit)
                             .collect(Collectors.toList())
             );
         }
@@ -102,21 +177,235 @@ public final class SuggestionContext<C, S extends Suggestion> {
     }
 
     /**
-     * Adds all the given {@code suggestions} to the stored suggestions
+     * Returns the maximum number of suggestions to return
+     *
+     * @return the suggestion limit
+     */
+    public int limit() {
+        return this.limit;
+    }
+
+    /**
+     * Returns the deadlines of the request
+     *
+     * @return the timeouts
+     */
+    public @NonNull SuggestionTimeouts<C> timeouts() {
+        return this.timeouts;
+    }
+
+    /**
+     * Returns the incremental suggestion session of the request
+     *
+     * @return the session, or {@code null} if incremental suggestions are disabled
+     */
+    public SuggestionSessions.@Nullable Session<C> session() {
+        return this.session;
+    }
+
+    /**
+     * Sets the incremental suggestion session of the request
+     *
+     * @param session the session
+     */
+    public void session(final SuggestionSessions.@Nullable Session<C> session) {
+        this.session = session;
+    }
+
+    /**
+     * Returns whether the context has been closed, after which no more suggestions are accepted
+     *
+     * @return whether the context is closed
+     */
+    public boolean closed() {
+        synchronized (this.suggestions) {
+            return this.closed;
+        }
+    }
+
+    /**
+     * Closes the context. Suggestions that are added after this are ignored, and all pending
+     * {@link #onClose(Runnable) close actions} are run.
+     */
+    public void close() {
+        final List<Runnable> actions;
+        synchronized (this.suggestions) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            actions = new ArrayList<>(this.closeActions);
+            this.closeActions.clear();
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers an action to run when the context is closed
+     *
+     * @param action the action
+     * @return {@code false} if the context is already closed, in which case the action is not registered
+     */
+    public boolean onClose(final @NonNull Runnable action) {
+        synchronized (this.suggestions) {
+            return !this.closed && this.closeActions.add(action);
+        }
+    }
+
+    /**
+     * Removes an action that was registered using {@link #onClose(Runnable)}
+     *
+     * @param action the action
+     */
+    public void removeOnClose(final @NonNull Runnable action) {
+        synchronized (this.suggestions) {
+            this.closeActions.remove(action);
+        }
+    }
+
+    /**
+     * Adds all the given {@code suggestions} to the stored suggestions.
+     *
+     * <p>The iterable is not iterated until {@link #makeSuggestions()} is invoked, and it will only be iterated
+     * as far as needed. The suggestions are ignored if the context has been {@link #close() closed}.</p>
      *
      * @param suggestions the suggestions to add
      */
     public void addSuggestions(final @NonNull Iterable<? extends @NonNull Suggestion> suggestions) {
-        suggestions.forEach(this::addSuggestion);
+        Objects.requireNonNull(suggestions, "suggestions");
+        synchronized (this.suggestions) {
+            if (!this.closed) {
+                this.suggestions.add(suggestions);
+            }
+        }
+    }
+
+    /**
+     * Moves the cursor of the input that the suggestions are made from to the cursor of the given {@code input}, unless the
+     * context has been {@link #close() closed}. The input is not modified once the context has been closed.
+     *
+     * @param input the input that is being suggested for
+     */
+    public void updateInput(final @NonNull CommandInput input) {
+        final int cursor = input.cursor();
+        synchronized (this.suggestions) {
+            if (!this.closed) {
+                this.commandInput.cursor(cursor);
+            }
+        }
+    }
+
+    /**
+     * Runs the given {@code action}, which modifies the {@link #commandContext() command context}, unless the context
+     * has been {@link #close() closed}. The command context is used to make the suggestions once the context has been
+     * closed, so it must not be modified by the traversal of the command tree after that.
+     *
+     * @param action the action
+     * @return whether the action was run
+     */
+    public boolean modify(final @NonNull Runnable action) {
+        synchronized (this.suggestions) {
+            if (this.closed) {
+                return false;
+            }
+            action.run();
+            return true;
+        }
+    }
+
+    /**
+     * Reserves a position for suggestions that are not yet available. Suggestions that are {@link Slot#fill(Iterable) filled}
+     * into the slot are returned before suggestions that are added after the slot was reserved, regardless of the order
+     * in which they become available. This allows for suggestions to be gathered concurrently while keeping their order
+     * deterministic.
+     *
+     * <p>The cursor of the given {@code input} is recorded, so that the suggestions that have been gathered when the
+     * context is closed early are made from the input that they were suggested for.</p>
+     *
+     * @param input the input that is being suggested for
+     * @return the slot
+     */
+    public @NonNull Slot reserve(final @NonNull CommandInput input) {
+        final Slot slot = new Slot();
+        final int cursor = input.cursor();
+        synchronized (this.suggestions) {
+            if (!this.closed) {
+                this.suggestions.add(slot);
+                this.commandInput.cursor(cursor);
+            }
+        }
+        return slot;
     }
 
     /**
-     * Adds the given {@code suggestion} to the stored suggestions
+     * Adds the given {@code suggestion} to the stored suggestions, unless the context has been {@link #close() closed}
      *
      * @param suggestion the suggestion to add
      */
     public void addSuggestion(final @NonNull Suggestion suggestion) {
         Objects.requireNonNull(suggestion, "suggestion");
-        this.suggestions.add(this.mapper.map(suggestion));
+        this.addSuggestions(Collections.singletonList(suggestion));
+    }
+
+
+    /**
+     * A reserved position in the stored suggestions.
+     */
+    public final class Slot implements Iterable<Suggestion> {
+
+        private Iterable<? extends Suggestion> contents = Collections.emptyList();
+
+        private Slot() {
+        }
+
+        /**
+         * Fills the slot with the given {@code suggestions}. The suggestions are ignored if the context has been
+         * {@link #close() closed}.
+         *
+         * @param suggestions the suggestions
+         */
+        public void fill(final @NonNull Iterable<? extends @NonNull Suggestion> suggestions) {
+            Objects.requireNonNull(suggestions, "suggestions");
+            synchronized (SuggestionContext.this.suggestions) {
+                if (!SuggestionContext.this.closed) {
+                    this.contents = suggestions;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull Iterator<Suggestion> iterator() {
+            return (Iterator<Suggestion>) this.contents.iterator();
+        }
+    }
+
+
+    /**
+     * Iterates over the elements of the stored iterables without collecting them.
+     */
+    private final class LazyIterator implements Iterator<Suggestion> {
+
+        private final Iterator<Iterable<? extends Suggestion>> batches = SuggestionContext.this.suggestions.iterator();
+        private @Nullable Iterator<? extends Suggestion> current;
+
+        @Override
+        public boolean hasNext() {
+            while (this.current == null || !this.current.hasNext()) {
+                if (!this.batches.hasNext()) {
+                    return false;
+                }
+                this.current = this.batches.next().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Suggestion next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return Objects.requireNonNull(this.current.next(), "suggestion");
+        }
     }
 }
@@ -0,0 +1,270 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * Per-sender state that is carried over between suggestion requests, so that arguments which were parsed during the
+ * previous request don't have to be parsed again while the sender keeps typing.
+ *
+ * <p>A parsed argument is reused when the same node is reached at the same cursor position and the new input still
+ * starts with the input that was consumed by the parser, including the character that terminated the argument.
+ * Arguments that consumed all remaining input are never reused, as their result may change once more input is
+ * appended.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionSessions<C> {
+
+    /**
+     * Parse results are only reused for a short while, as they may depend on state outside the input.
+     */
+    static final long EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    static final int MAXIMUM_SESSIONS = 256;
+
+    private final Map<C, Closed<C>> sessions = new LinkedHashMap<C, Closed<C>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<C, Closed<C>> eldest) {
+            return this.size() > MAXIMUM_SESSIONS;
+        }
+    };
+
+    /**
+     * Opens a session for a new suggestion request by the given {@code sender}, seeded with the parse results of the
+     * previous request by the same sender.
+     *
+     * @param sender the sender
+     * @return the session
+     */
+    public @NonNull Session<C> open(final @NonNull C sender) {
+        final Closed<C> previous;
+        synchronized (this.sessions) {
+            this.evictExpired(System.nanoTime());
+            previous = this.sessions.get(sender);
+        }
+        return new Session<>(previous == null ? Collections.emptyList() : previous.entries);
+    }
+
+    /**
+     * Stores the parse results of the given {@code session}, replacing the previous session of the {@code sender}.
+     *
+     * @param sender  the sender
+     * @param session the completed session
+     */
+    public void close(final @NonNull C sender, final @NonNull Session<C> session) {
+        // The traversal of a timed out request may still be recording results, so the next session gets a copy
+        final List<Entry<C>> entries;
+        synchronized (session.current) {
+            entries = Collections.unmodifiableList(new ArrayList<>(session.current));
+        }
+        final long now = System.nanoTime();
+        synchronized (this.sessions) {
+            this.evictExpired(now);
+            if (entries.isEmpty()) {
+                this.sessions.remove(sender);
+            } else {
+                this.sessions.put(sender, new Closed<>(entries));
+            }
+        }
+    }
+
+    private void evictExpired(final long now) {
+        this.sessions.values().removeIf(closed -> closed.expired(now));
+    }
+
+    /**
+     * Removes all sessions.
+     */
+    public void invalidateAll() {
+        synchronized (this.sessions) {
+            this.sessions.clear();
+        }
+    }
+
+
+    /**
+     * The parse results of a single suggestion request.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final class Session<C> {
+
+        private final List<Entry<C>> previous;
+        private final List<Entry<C>> current = new ArrayList<>();
+
+        private Session(final @NonNull List<Entry<C>> previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Returns a parse result from the previous request that is still valid for the given {@code node} and
+         * {@code input}, and carries it over to this session.
+         *
+         * @param node  the node that is about to be parsed
+         * @param input the input, with the cursor at the start of the argument
+         * @return the reusable parse result, or {@code null}
+         */
+        public @Nullable Entry<C> reuse(final @NonNull CommandNode<C> node, final @NonNull CommandInput input) {
+            final long now = System.nanoTime();
+            for (final Entry<C> entry : this.previous) {
+                if (entry.node == node
+                        && entry.start == input.cursor()
+                        && now - entry.timestamp < EXPIRY_NANOS
+                        && input.input().startsWith(entry.consumed)) {
+                    synchronized (this.current) {
+                        this.current.add(entry);
+                    }
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Takes a snapshot of the values stored in the given {@code context}, to be passed to
+         * {@link #record(CommandNode, int, CommandInput, CommandContext, Map)} once the argument has been parsed.
+         *
+         * @param context the command context
+         * @return the snapshot
+         */
+        public @NonNull Map<CloudKey<?>, Object> snapshot(final @NonNull CommandContext<C> context) {
+            return new HashMap<>(context.all());
+        }
+
+        /**
+         * Records a successfully parsed argument. Nothing is recorded if the parser consumed all remaining input.
+         *
+         * @param node     the parsed node
+         * @param start    the cursor at the start of the argument
+         * @param input    the input, with the cursor after the parsed argument
+         * @param context  the command context, after the parsed value has been stored
+         * @param snapshot the values stored in the context before parsing
+         */
+        public void record(
+                final @NonNull CommandNode<C> node,
+                final int start,
+                final @NonNull CommandInput input,
+                final @NonNull CommandContext<C> context,
+                final @NonNull Map<CloudKey<?>, Object> snapshot
+        ) {
+            if (!input.hasRemainingInput()) {
+                return;
+            }
+            final Map<CloudKey<?>, Object> stored = new HashMap<>();
+            context.all().forEach((key, value) -> {
+                if (snapshot.get(key) != value) {
+                    stored.put(key, value);
+                }
+            });
+            final String consumed = input.input().substring(0, input.cursor() + 1);
+            final Entry<C> entry = new Entry<>(node, start, input.cursor(), consumed, stored, System.nanoTime());
+            synchronized (this.current) {
+                this.current.add(entry);
+            }
+        }
+    }
+
+
+    private static final class Closed<C> {
+
+        private final List<Entry<C>> entries;
+        private final long lastTimestamp;
+
+        private Closed(final @NonNull List<Entry<C>> entries) {
+            this.entries = entries;
+            long lastTimestamp = entries.get(0).timestamp;
+            for (final Entry<C> entry : entries) {
+                if (entry.timestamp - lastTimestamp > 0) {
+                    lastTimestamp = entry.timestamp;
+                }
+            }
+            this.lastTimestamp = lastTimestamp;
+        }
+
+        private boolean expired(final long now) {
+            return now - this.lastTimestamp >= EXPIRY_NANOS;
+        }
+    }
+
+
+    /**
+     * A reusable parse result.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public static final class Entry<C> {
+
+        private final CommandNode<C> node;
+        private final int start;
+        private final int end;
+        private final String consumed;
+        private final Map<CloudKey<?>, Object> stored;
+        private final long timestamp;
+
+        private Entry(
+                final @NonNull CommandNode<C> node,
+                final int start,
+                final int end,
+                final @NonNull String consumed,
+                final @NonNull Map<CloudKey<?>, Object> stored,
+                final long timestamp
+        ) {
+            this.node = node;
+            this.start = start;
+            this.end = end;
+            this.consumed = consumed;
+            this.stored = stored;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Stores the values that were stored while parsing the argument in the given {@code context}, and moves the
+         * cursor of the given {@code input} past the argument.
+         *
+         * @param context the command context
+         * @param input   the input
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void restore(final @NonNull CommandContext<C> context, final @NonNull CommandInput input) {
+            this.stored.forEach((key, value) -> context.store((CloudKey) key, value));
+            input.cursor(this.end);
+        }
+    }
+}
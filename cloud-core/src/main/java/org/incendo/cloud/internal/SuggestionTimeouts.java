@@ -0,0 +1,217 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.component.CommandComponent;
+
+/**
+ * Deadlines for suggestion requests.
+ *
+ * <p>Suggestion provider futures that miss the per-provider deadline are completed with no suggestions, and once the
+ * per-request deadline has passed the suggestions that have been gathered so far are returned. Providers that
+ * are skipped because of either deadline are reported to the timeout listener.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionTimeouts<C> {
+
+    private static final SuggestionTimeouts<?> NONE = new SuggestionTimeouts<>(null, null, null, component -> {
+    });
+
+    private final @Nullable Duration providerTimeout;
+    private final @Nullable Duration requestTimeout;
+    private final @Nullable ScheduledExecutorService scheduler;
+    private final Consumer<CommandComponent<C>> timeoutListener;
+
+    /**
+     * Creates new suggestion timeouts.
+     *
+     * @param providerTimeout the maximum time to wait for a single suggestion provider, or {@code null}
+     * @param requestTimeout  the maximum time to wait for the whole suggestion request, or {@code null}
+     * @param scheduler       the scheduler to schedule deadlines on, or {@code null} to use a shared daemon scheduler
+     * @param timeoutListener listener that is invoked for every component whose provider was skipped
+     */
+    public SuggestionTimeouts(
+            final @Nullable Duration providerTimeout,
+            final @Nullable Duration requestTimeout,
+            final @Nullable ScheduledExecutorService scheduler,
+            final @NonNull Consumer<CommandComponent<C>> timeoutListener
+    ) {
+        this.providerTimeout = providerTimeout;
+        this.requestTimeout = requestTimeout;
+        this.scheduler = scheduler;
+        this.timeoutListener = timeoutListener;
+    }
+
+    /**
+     * Returns timeouts that never expire.
+     *
+     * @param <C> command sender type
+     * @return timeouts without any deadlines
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> @NonNull SuggestionTimeouts<C> none() {
+        return (SuggestionTimeouts<C>) NONE;
+    }
+
+    /**
+     * Returns whether any deadline is configured.
+     *
+     * @return whether any deadline is configured
+     */
+    public boolean enabled() {
+        return this.providerTimeout != null || this.requestTimeout != null;
+    }
+
+    /**
+     * Bounds the given provider {@code future} by the per-provider deadline and the deadline of the request that the
+     * given {@code context} belongs to. If either deadline passes first, the returned future completes with
+     * the {@code fallback} on the given {@code executor}.
+     *
+     * @param <T>       result type
+     * @param context   the suggestion context of the request
+     * @param component the component that the provider belongs to
+     * @param future    the provider future
+     * @param fallback  the result to complete with once the deadline has passed
+     * @param executor  the executor to complete the future on if the deadline passes
+     * @return the bounded future
+     */
+    public <T> @NonNull CompletableFuture<T> bound(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandComponent<C> component,
+            final @NonNull CompletableFuture<? extends T> future,
+            final @NonNull T fallback,
+            final @NonNull Executor executor
+    ) {
+        final CompletableFuture<T> bounded = new CompletableFuture<>();
+        // Whichever of the provider and the deadline settles first wins. The timeout is recorded before completing, so
+        // that it's visible by the time the suggestions are returned
+        final AtomicBoolean settled = new AtomicBoolean();
+        final Runnable expire = () -> {
+            if (settled.compareAndSet(false, true)) {
+                this.timeoutListener.accept(component);
+                bounded.complete(fallback);
+            }
+        };
+        if (!context.onClose(expire)) {
+            expire.run();
+            return bounded;
+        }
+        final ScheduledFuture<?> task;
+        if (this.providerTimeout == null || future.isDone()) {
+            task = null;
+        } else {
+            task = this.scheduler().schedule(
+                    () -> executor.execute(expire),
+                    this.providerTimeout.toNanos(),
+                    TimeUnit.NANOSECONDS
+            );
+        }
+        future.whenComplete((result, throwable) -> {
+            if (task != null) {
+                task.cancel(false);
+            }
+            context.removeOnClose(expire);
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            }
+            if (throwable != null) {
+                bounded.completeExceptionally(throwable);
+            } else {
+                bounded.complete(result);
+            }
+        });
+        return bounded;
+    }
+
+    /**
+     * Bounds the given suggestion {@code future} by the per-request deadline. If the deadline passes first, the
+     * given {@code context} is {@link SuggestionContext#close() closed} and the returned future completes with it on the
+     * given {@code executor}. The traversal of the command tree may still be running at that point, but it no longer
+     * modifies the input and command context that the suggestions are made from.
+     *
+     * @param <S>      context type
+     * @param context  the suggestion context of the request
+     * @param future   the future that completes once all suggestions have been gathered
+     * @param executor the executor to complete the future on if the deadline passes
+     * @return the bounded future
+     */
+    public <S extends SuggestionContext<C, ?>> @NonNull CompletableFuture<S> boundRequest(
+            final @NonNull S context,
+            final @NonNull CompletableFuture<?> future,
+            final @NonNull Executor executor
+    ) {
+        if (this.requestTimeout == null || future.isDone()) {
+            return future.thenApply($ -> context);
+        }
+        final CompletableFuture<S> bounded = new CompletableFuture<>();
+        final ScheduledFuture<?> task = this.scheduler().schedule(
+                () -> executor.execute(() -> {
+                    context.close();
+                    bounded.complete(context);
+                }),
+                this.requestTimeout.toNanos(),
+                TimeUnit.NANOSECONDS
+        );
+        future.whenComplete((result, throwable) -> {
+            task.cancel(false);
+            if (throwable != null) {
+                bounded.completeExceptionally(throwable);
+            } else {
+                bounded.complete(context);
+            }
+        });
+        return bounded;
+    }
+
+    private @NonNull ScheduledExecutorService scheduler() {
+        if (this.scheduler != null) {
+            return this.scheduler;
+        }
+        return SharedScheduler.INSTANCE;
+    }
+
+
+    private static final class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cloud-suggestion-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,70 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParser;
+
+/**
+ * Utilities for composite parsers that parse synchronously when all of their inner parsers are synchronous.
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SynchronousParsers {
+
+    private static final ClassValue<Boolean> SYNCHRONOUS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final @NonNull Class<?> type) {
+            if (ArgumentParser.FutureArgumentParser.class.isAssignableFrom(type)) {
+                return false;
+            }
+            try {
+                return type.getMethod("parseFuture", CommandContext.class, CommandInput.class)
+                        .getDeclaringClass() == ArgumentParser.class;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private SynchronousParsers() {
+    }
+
+    /**
+     * Returns whether the given {@code parser} produces its results synchronously, in which case
+     * {@link ArgumentParser#parse(CommandContext, CommandInput)} may be invoked instead of
+     * {@link ArgumentParser#parseFuture(CommandContext, CommandInput)}.
+     *
+     * <p>A parser is synchronous if it is not a {@link ArgumentParser.FutureArgumentParser} and does not override
+     * {@link ArgumentParser#parseFuture(CommandContext, CommandInput)}.</p>
+     *
+     * @param parser the parser
+     * @return {@code true} if the parser is synchronous
+     */
+    public static boolean isSynchronous(final @NonNull ArgumentParser<?, ?> parser) {
+        return SYNCHRONOUS.get(parser.getClass());
+    }
+}
@@ -219,4 +219,14 @@ public interface ArgumentParser<C, T> extends SuggestionProviderHolder<C> {
                 @NonNull CommandInput commandInput
         );
     }
+
+    /**
+     * Marker interface for parsers that hold no state besides the values they were constructed from.
+     *
+     * <p>Two parsers that are created by the same supplier from equal {@link ParserParameters} are interchangeable, which
+     * allows {@link StandardParserRegistry} to share a single instance between all components that request them.</p>
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    interface Stateless {
+    }
 }
@@ -0,0 +1,306 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.common.returnsreceiver.qual.This;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.ResultCache;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An argument parser which wraps another argument parser, caching its results by the input token.
+ *
+ * <p>This is intended for parsers that are expensive to invoke, such as parsers that look up values in a remote data
+ * store. Parsers are invoked for every keystroke while suggestions are being computed, so caching the results avoids
+ * repeating the same lookup over and over. Concurrent parses of the same token share a single invocation of the
+ * wrapped parser. Failures are only shared between concurrent parses if they are cached, or if the parser is
+ * {@link Builder#senderScoped() sender scoped}.</p>
+ *
+ * <p>Only results of parses that either consume exactly the next token or nothing at all are cached, as that's what
+ * the cache is able to replay. Results are cached by token and, if {@link Builder#scope(Function)} is used, by the scope
+ * of the command context. Failures are not cached unless {@link Builder#cacheFailures(Duration)} is used. As the
+ * failure may reference the context it was created for, it is recommended to only cache failures in combination with
+ * a sender scope.</p>
+ *
+ * @param <C> command sender type
+ * @param <T> value type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CachingArgumentParser<C, T> implements ArgumentParser.FutureArgumentParser<C, T> {
+
+    private final ArgumentParser<C, T> parser;
+    private final long successNanos;
+    private final long failureNanos;
+    private final @Nullable Function<@NonNull CommandContext<C>, @Nullable Object> scope;
+    private final boolean shareFailures;
+    private final ResultCache<ResultCache.Key, CachedResult<T>> cache;
+
+    private CachingArgumentParser(final @NonNull Builder<C> builder, final @NonNull ArgumentParser<C, T> parser) {
+        this.parser = parser;
+        this.successNanos = builder.success.toNanos();
+        this.failureNanos = builder.failure.toNanos();
+        this.scope = builder.scope;
+        // Failures may reference the context they were created for, so they're only handed to other senders if cached
+        this.shareFailures = builder.senderScoped || this.failureNanos > 0;
+        this.cache = new ResultCache<>(builder.maximumSize, builder.ticker);
+    }
+
+    /**
+     * Returns a new builder for caching parsers.
+     *
+     * @param <C> command sender type
+     * @return the builder
+     */
+    public static <C> @NonNull Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the parser whose results are cached.
+     *
+     * @return the wrapped parser
+     */
+    public @NonNull ArgumentParser<C, T> baseParser() {
+        return this.parser;
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<T>> parseFuture(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        final CommandInput tokenInput = commandInput.copy();
+        final String token = tokenInput.readString();
+        final ResultCache.Key key = new ResultCache.Key(this.scope == null ? null : this.scope.apply(commandContext), token);
+
+        final CachedResult<T> cached = this.cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.replay(commandInput));
+        }
+
+        final CompletableFuture<@Nullable CachedResult<T>> pending = new CompletableFuture<>();
+        final CompletableFuture<@Nullable CachedResult<T>> existing = this.cache.join(key, pending);
+        if (existing != null) {
+            return existing.thenCompose(entry -> {
+                if (entry == null) {
+                    return this.parser.parseFuture(commandContext, commandInput);
+                }
+                return CompletableFuture.completedFuture(entry.replay(commandInput));
+            });
+        }
+
+        final int start = commandInput.cursor();
+        final CompletableFuture<@NonNull ArgumentParseResult<T>> future;
+        try {
+            future = this.parser.parseFuture(commandContext, commandInput);
+        } catch (final RuntimeException e) {
+            this.cache.complete(key, pending, null, 0L);
+            throw e;
+        }
+        return future.whenComplete((result, failure) -> {
+            if (result == null) {
+                this.cache.complete(key, pending, null, 0L);
+                return;
+            }
+            final boolean failed = result.failure().isPresent();
+            CachedResult<T> entry = null;
+            if (!failed || this.shareFailures) {
+                if (commandInput.cursor() == start) {
+                    entry = new CachedResult<>(result, false /* consumesToken */);
+                } else if (commandInput.cursor() == tokenInput.cursor()) {
+                    entry = new CachedResult<>(result, true /* consumesToken */);
+                }
+            }
+            // The entry is still shared with concurrent parses of the same token, even if it isn't cached.
+            this.cache.complete(key, pending, entry, failed ? this.failureNanos : this.successNanos);
+        });
+    }
+
+    @Override
+    public @NonNull SuggestionProvider<C> suggestionProvider() {
+        return this.parser.suggestionProvider();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingArgumentParser{"
+                + "parser=" + this.parser + '}';
+    }
+
+
+    /**
+     * Builder for {@link CachingArgumentParser caching parsers}.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Builder<C> {
+
+        private Duration success = Duration.ofSeconds(30);
+        private Duration failure = Duration.ZERO;
+        private int maximumSize = 1000;
+        private @Nullable Function<@NonNull CommandContext<C>, @Nullable Object> scope;
+        private boolean senderScoped;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the duration for which successful results are cached. Defaults to 30 seconds.
+         *
+         * @param duration the duration
+         * @return {@code this}
+         * @throws IllegalArgumentException if the duration is negative
+         */
+        public @This @NonNull Builder<C> expireAfterWrite(final @NonNull Duration duration) {
+            requireNonNull(duration, "duration");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("The duration cannot be negative");
+            }
+            this.success = duration;
+            return this;
+        }
+
+        /**
+         * Sets the duration for which failures are cached. Defaults to {@link Duration#ZERO}, which means that failures
+         * are not cached. Uncached failures are only shared between concurrent parses of the same token if the parser is
+         * {@link #senderScoped() sender scoped}.
+         *
+         * @param duration the duration
+         * @return {@code this}
+         * @throws IllegalArgumentException if the duration is negative
+         */
+        public @This @NonNull Builder<C> cacheFailures(final @NonNull Duration duration) {
+            requireNonNull(duration, "duration");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("The duration cannot be negative");
+            }
+            this.failure = duration;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results. The least recently used result is discarded once the limit is
+         * exceeded. Defaults to 1000.
+         *
+         * @param maximumSize the maximum number of results
+         * @return {@code this}
+         */
+        public @This @NonNull Builder<C> maximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the function that determines the scope of cached results. Results are only shared between contexts with
+         * equal scopes.
+         *
+         * @param scope the scope function
+         * @return {@code this}
+         */
+        public @This @NonNull Builder<C> scope(final @NonNull Function<@NonNull CommandContext<C>, @Nullable Object> scope) {
+            this.scope = requireNonNull(scope, "scope");
+            this.senderScoped = false;
+            return this;
+        }
+
+        /**
+         * Scopes the cached results to the command sender, so that results are never shared between senders.
+         *
+         * @return {@code this}
+         */
+        public @This @NonNull Builder<C> senderScoped() {
+            this.scope(CommandContext::sender);
+            this.senderScoped = true;
+            return this;
+        }
+
+        @This @NonNull Builder<C> ticker(final @NonNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Creates a parser that caches the results of the given {@code parser}.
+         *
+         * @param <T>    value type
+         * @param parser the parser to cache the results of
+         * @return the caching parser
+         */
+        public <T> @NonNull CachingArgumentParser<C, T> build(final @NonNull ArgumentParser<C, T> parser) {
+            return new CachingArgumentParser<>(this, requireNonNull(parser, "parser"));
+        }
+
+        /**
+         * Creates a descriptor of a parser that caches the results of the parser of the given {@code descriptor}.
+         *
+         * @param <T>        value type
+         * @param descriptor the descriptor of the parser to cache the results of
+         * @return the descriptor of the caching parser
+         */
+        public <T> @NonNull ParserDescriptor<C, T> build(final @NonNull ParserDescriptor<C, T> descriptor) {
+            return ParserDescriptor.of(this.build(descriptor.parser()), descriptor.valueType());
+        }
+    }
+
+
+    private static final class CachedResult<T> {
+
+        private final ArgumentParseResult<T> result;
+        private final boolean consumesToken;
+
+        private CachedResult(final @NonNull ArgumentParseResult<T> result, final boolean consumesToken) {
+            this.result = result;
+            this.consumesToken = consumesToken;
+        }
+
+        private @NonNull ArgumentParseResult<T> replay(final @NonNull CommandInput commandInput) {
+            if (this.consumesToken) {
+                commandInput.readString();
+            }
+            return this.result;
+        }
+    }
+}
@@ -141,6 +141,18 @@ public interface ParserDescriptor<C, T> {
         return parserDescriptor(this.parser().mapSuccess(mapper), mappedType);
     }
 
+    /**
+     * Create a descriptor for a parser that caches the results of this descriptor's parser.
+     *
+     * @param cache the configuration of the cache
+     * @return caching parser descriptor
+     * @see CachingArgumentParser
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull ParserDescriptor<C, T> cached(final CachingArgumentParser.@NonNull Builder<C> cache) {
+        return cache.build(this);
+    }
+
     /**
      * Creates a new parser descriptor.
      *
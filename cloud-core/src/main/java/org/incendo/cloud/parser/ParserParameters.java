@@ -122,4 +122,21 @@ public final class ParserParameters {
     public @NonNull Map<@NonNull ParserParameter<?>, @NonNull Object> parameters() {
         return Collections.unmodifiableMap(this.internalMap);
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final ParserParameters that = (ParserParameters) o;
+        return this.internalMap.equals(that.internalMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.internalMap.hashCode();
+    }
 }
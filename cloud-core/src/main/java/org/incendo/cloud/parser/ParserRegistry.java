@@ -69,6 +69,25 @@ public interface ParserRegistry<C> {
         return this.registerParserSupplier(descriptor.valueType(), parameters -> descriptor.parser());
     }
 
+    /**
+     * Registers a parser that caches the results of the parser described by the given {@code descriptor}.
+     *
+     * <p>The caching parser is shared between all components that use the parser for the type, and so is its cache.</p>
+     *
+     * @param descriptor parser descriptor
+     * @param cache      the configuration of the cache
+     * @param <T>        type produced by the parser
+     * @return {@code this}
+     * @see CachingArgumentParser
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default <T> @This ParserRegistry<C> registerCachedParser(
+            final @NonNull ParserDescriptor<C, T> descriptor,
+            final CachingArgumentParser.@NonNull Builder<C> cache
+    ) {
+        return this.registerParser(descriptor.cached(cache));
+    }
+
     /**
      * Registers a named parser supplier.
      *
@@ -34,9 +34,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.incendo.cloud.annotation.specifier.FlagYielding;
 import org.incendo.cloud.annotation.specifier.Greedy;
@@ -86,6 +89,8 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
     private final Map<AnnotatedType, Function<ParserParameters, ArgumentParser<C, ?>>> parserSuppliers = new AnnotatedTypeMap<>();
     private final Map<Class<? extends Annotation>, AnnotationMapper<?>> annotationMappers = new HashMap<>();
     private final Map<String, SuggestionProvider<C>> namedSuggestionProviders = new HashMap<>();
+    private final Map<ParserKey, ArgumentParser<C, ?>> statelessParsers = new ConcurrentHashMap<>();
+    private final LongAdder savedParsers = new LongAdder();
 
     /**
      * Construct a new {@link StandardParserRegistry} instance. This will also
@@ -194,7 +199,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
             final @NonNull Function<@NonNull ParserParameters,
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
-        this.parserSuppliers.put(type.getAnnotatedType(), supplier);
+        this.invalidate(this.parserSuppliers.put(type.getAnnotatedType(), supplier));
         return this;
     }
 
@@ -204,7 +209,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
             final @NonNull Function<@NonNull ParserParameters,
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
-        this.namedParsers.put(name, supplier);
+        this.invalidate(this.namedParsers.put(name, supplier));
         return this;
     }
 
@@ -252,16 +257,12 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         if (producer == null) {
             /* Give enums special treatment */
             if (GenericTypeReflector.isSuperType(Enum.class, actualType.getType())) {
-                @SuppressWarnings("rawtypes") final EnumParser enumArgument = new EnumParser(
-                        GenericTypeReflector.erase(actualType.getType())
-                );
-                return Optional.of(enumArgument);
+                final Class<?> enumClass = GenericTypeReflector.erase(actualType.getType());
+                return Optional.of(this.createOrReuseParser(enumClass, parserParameters, parameters -> new EnumParser(enumClass)));
             }
             return Optional.empty();
         }
-        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
-                parserParameters);
-        return Optional.of(parser);
+        return Optional.of(this.createOrReuseParser(producer, parserParameters, producer));
     }
 
     @Override
@@ -273,9 +274,57 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         if (producer == null) {
             return Optional.empty();
         }
-        @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
-                parserParameters);
-        return Optional.of(parser);
+        return Optional.of(this.createOrReuseParser(producer, parserParameters, producer));
+    }
+
+    /**
+     * Creates a parser using the given {@code producer}, or returns a previously created parser if the producer previously
+     * created a {@link ArgumentParser.Stateless stateless} parser from equal parameters.
+     *
+     * @param source           the object that determines the parser, together with the parameters
+     * @param parserParameters the parser parameters
+     * @param producer         function that creates the parser
+     * @param <T>              type of values produced by the parser
+     * @return the parser
+     */
+    private <T> @NonNull ArgumentParser<C, T> createOrReuseParser(
+            final @NonNull Object source,
+            final @NonNull ParserParameters parserParameters,
+            final @NonNull Function<ParserParameters, ArgumentParser<C, ?>> producer
+    ) {
+        final ParserKey key = new ParserKey(source, parserParameters);
+        ArgumentParser<C, ?> parser = this.statelessParsers.get(key);
+        if (parser != null) {
+            this.savedParsers.increment();
+        } else {
+            parser = producer.apply(parserParameters);
+            if (parser instanceof ArgumentParser.Stateless) {
+                final ArgumentParser<C, ?> existing = this.statelessParsers.putIfAbsent(key, parser);
+                if (existing != null) {
+                    this.savedParsers.increment();
+                    parser = existing;
+                }
+            }
+        }
+        return (ArgumentParser<C, T>) parser;
+    }
+
+    private void invalidate(final @Nullable Function<ParserParameters, ArgumentParser<C, ?>> replacedSupplier) {
+        if (replacedSupplier != null) {
+            this.statelessParsers.keySet().removeIf(key -> key.source == replacedSupplier);
+        }
+    }
+
+    /**
+     * Returns the number of times that a previously created {@link ArgumentParser.Stateless stateless} parser was returned by
+     * {@link #createParser(TypeToken, ParserParameters)} or {@link #createParser(String, ParserParameters)} instead of a new
+     * instance.
+     *
+     * @return number of parser instances that were saved
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public long savedParserInstances() {
+        return this.savedParsers.sum();
     }
 
     @Override
@@ -372,4 +421,37 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
             return ParserParameters.single(StandardParameters.GREEDY, true);
         }
     }
+
+
+    private static final class ParserKey {
+
+        private final Object source;
+        private final ParserParameters parameters;
+        private final int hashCode;
+
+        private ParserKey(final @NonNull Object source, final @NonNull ParserParameters parameters) {
+            this.source = source;
+            // The parameters are mutable, so the key holds on to a copy.
+            this.parameters = ParserParameters.empty();
+            this.parameters.merge(parameters);
+            this.hashCode = 31 * System.identityHashCode(source) + this.parameters.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParserKey)) {
+                return false;
+            }
+            final ParserKey that = (ParserKey) o;
+            return this.source == that.source && this.parameters.equals(that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
 }
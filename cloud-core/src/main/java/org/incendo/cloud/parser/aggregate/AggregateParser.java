@@ -224,7 +224,7 @@ public interface AggregateParser<C, O> extends ArgumentParser.FutureArgumentPars
     @API(status = API.Status.STABLE)
     final class AggregateParseException extends ParserException {
 
-        private AggregateParseException(
+        AggregateParseException(
                 final @NonNull CommandContext<?> context,
                 final @NonNull String input,
                 final @NonNull CommandComponent<?> component,
@@ -235,13 +235,15 @@ public interface AggregateParser<C, O> extends ArgumentParser.FutureArgumentPars
                     AggregateParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_AGGREGATE_COMPONENT_FAILURE,
-                    CaptionVariable.of("input", input),
-                    CaptionVariable.of("component", component.name()),
-                    CaptionVariable.of("failure", cause.getMessage())
+                    () -> new CaptionVariable[]{
+                            CaptionVariable.of("input", input),
+                            CaptionVariable.of("component", component.name()),
+                            CaptionVariable.of("failure", cause.getMessage())
+                    }
             );
         }
 
-        private AggregateParseException(
+        AggregateParseException(
                 final @NonNull CommandContext<?> context,
                 final @NonNull CommandComponent<?> component
         ) {
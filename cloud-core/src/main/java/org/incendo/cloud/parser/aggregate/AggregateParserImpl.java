@@ -24,16 +24,27 @@
 package org.incendo.cloud.parser.aggregate;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.SynchronousParsers;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.util.CompletableFutures;
 
 final class AggregateParserImpl<C, O> implements AggregateParser<C, O> {
 
     private final List<CommandComponent<C>> components;
     private final TypeToken<O> valueType;
     private final AggregateResultMapper<C, O> mapper;
+    private final List<String> names;
+    private final CloudKey<?>[] keys;
+    private final boolean synchronous;
 
     AggregateParserImpl(
             final @NonNull List<CommandComponent<C>> components,
@@ -43,6 +54,16 @@ final class AggregateParserImpl<C, O> implements AggregateParser<C, O> {
         this.components = components;
         this.valueType = valueType;
         this.mapper = mapper;
+        this.names = new ArrayList<>(components.size());
+        this.keys = new CloudKey<?>[components.size()];
+        boolean synchronous = true;
+        for (int i = 0; i < components.size(); i++) {
+            final CommandComponent<C> component = components.get(i);
+            this.names.add(component.name());
+            this.keys[i] = CloudKey.of(component.name(), component.valueType());
+            synchronous &= SynchronousParsers.isSynchronous(component.parser());
+        }
+        this.synchronous = synchronous;
     }
 
     @Override
@@ -59,4 +80,41 @@ final class AggregateParserImpl<C, O> implements AggregateParser<C, O> {
     public @NonNull TypeToken<O> valueType() {
         return this.valueType;
     }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<O>> parseFuture(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        if (!this.synchronous) {
+            return AggregateParser.super.parseFuture(commandContext, commandInput);
+        }
+        // All inner parsers are synchronous, so the components are parsed in a plain loop without chaining futures.
+        final AggregateParsingContext<C> aggregateParsingContext = new AggregateParsingContextImpl<>(this.names);
+        try {
+            for (int i = 0; i < this.components.size(); i++) {
+                final CommandComponent<C> component = this.components.get(i);
+                commandInput.skipWhitespace(1);
+                if (commandInput.isEmpty()) {
+                    return ArgumentParseResult.failureFuture(new AggregateParseException(commandContext, component));
+                }
+                final ArgumentParseResult<?> result = component.parser().parse(commandContext, commandInput);
+                if (result.failure().isPresent()) {
+                    return ArgumentParseResult.failureFuture(new AggregateParseException(
+                            commandContext,
+                            "",
+                            component,
+                            result.failure().get()
+                    ));
+                }
+                if (result.parsedValue().isPresent()) {
+                    aggregateParsingContext.store((CloudKey) this.keys[i], result.parsedValue().get());
+                }
+            }
+        } catch (final RuntimeException e) {
+            return CompletableFutures.failedFuture(e);
+        }
+        return this.mapper.map(commandContext, aggregateParsingContext);
+    }
 }
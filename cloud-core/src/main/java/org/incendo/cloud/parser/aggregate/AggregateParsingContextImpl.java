@@ -49,6 +49,10 @@ final class AggregateParsingContextImpl<C> implements AggregateParsingContext<C>
                 .collect(Collectors.toList());
     }
 
+    AggregateParsingContextImpl(final @NonNull Collection<@NonNull String> validKeys) {
+        this.validKeys = validKeys;
+    }
+
     @Override
     public <V> void store(final @NonNull CloudKey<V> key, final @NonNull V value) {
         this.storage.put(key, value);
@@ -0,0 +1,365 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.bulk;
+
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.caption.CaptionVariable;
+import org.incendo.cloud.caption.StandardCaptionKeys;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.ArgumentParseException;
+import org.incendo.cloud.exception.CommandExecutionException;
+import org.incendo.cloud.exception.parsing.ParserException;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parser that parses a key using another parser, and defers the resolution of the value of the key until the command is
+ * about to be executed.
+ *
+ * <p>Once a command has been parsed, the keys parsed by all bulk parsers of the command are resolved together, using one
+ * call to each distinct {@link BulkResolver}. A command like {@code transfer <from> <to> <item>} thereby resolves the
+ * values of all of its arguments in a single round-trip instead of one per argument. The values are resolved before the
+ * command is postprocessed, and they are never resolved when parsing for suggestions.</p>
+ *
+ * <p>The parsed keys are kept aside until the command has been parsed, and the context only holds the value of the component
+ * once it has been resolved. The value is therefore not available to the parsers and suggestion providers of other
+ * components. When the parser is not invoked directly by the command tree, for example as the parser of a flag or when it
+ * is wrapped by another parser, the value of each key is resolved individually when it is parsed.</p>
+ *
+ * @param <C> command sender type
+ * @param <K> key type
+ * @param <V> value type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class BulkParser<C, K, V> implements ArgumentParser.FutureArgumentParser<C, V> {
+
+    private static final CloudKey<PendingValues> PENDING_VALUES = CloudKey.of("__bulk_pending_values__", PendingValues.class);
+
+    private final ArgumentParser<C, K> keyParser;
+    private final BulkResolver<C, K, V> resolver;
+
+    private BulkParser(final @NonNull ArgumentParser<C, K> keyParser, final @NonNull BulkResolver<C, K, V> resolver) {
+        this.keyParser = keyParser;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Creates a new bulk parser.
+     *
+     * @param <C>       command sender type
+     * @param <K>       key type
+     * @param <V>       value type
+     * @param keyParser parser that parses the keys
+     * @param valueType the type of the values
+     * @param resolver  resolver that resolves the values of the keys
+     * @return the descriptor of the parser
+     */
+    public static <C, K, V> @NonNull ParserDescriptor<C, V> bulkParser(
+            final @NonNull ParserDescriptor<C, K> keyParser,
+            final @NonNull TypeToken<V> valueType,
+            final @NonNull BulkResolver<C, K, V> resolver
+    ) {
+        return ParserDescriptor.of(
+                new BulkParser<>(requireNonNull(keyParser, "keyParser").parser(), requireNonNull(resolver, "resolver")),
+                valueType
+        );
+    }
+
+    /**
+     * Creates a new bulk parser.
+     *
+     * @param <C>       command sender type
+     * @param <K>       key type
+     * @param <V>       value type
+     * @param keyParser parser that parses the keys
+     * @param valueType the type of the values
+     * @param resolver  resolver that resolves the values of the keys
+     * @return the descriptor of the parser
+     */
+    public static <C, K, V> @NonNull ParserDescriptor<C, V> bulkParser(
+            final @NonNull ParserDescriptor<C, K> keyParser,
+            final @NonNull Class<V> valueType,
+            final @NonNull BulkResolver<C, K, V> resolver
+    ) {
+        return bulkParser(keyParser, TypeToken.get(valueType), resolver);
+    }
+
+    /**
+     * Resolves the values of all components in the given {@code context} that were parsed by bulk parsers, and stores
+     * them in the context.
+     *
+     * <p>The returned future completes exceptionally with an {@link ArgumentParseException} if the value of a key could not
+     * be found, or with a {@link CommandExecutionException} if a resolver failed.</p>
+     *
+     * @param <C>     command sender type
+     * @param context the command context
+     * @return future that completes when all values have been resolved
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <C> @NonNull CompletableFuture<Void> resolvePending(final @NonNull CommandContext<C> context) {
+        final PendingValues pendingValues = context.getOrDefault(PENDING_VALUES, null);
+        if (pendingValues == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        context.remove(PENDING_VALUES);
+
+        final Map<BulkResolver<?, ?, ?>, List<Pending<?, ?, ?>>> pendingByResolver = new IdentityHashMap<>();
+        for (final Pending<?, ?, ?> pending : pendingValues.values) {
+            pendingByResolver.computeIfAbsent(pending.parser.resolver, resolver -> new ArrayList<>()).add(pending);
+        }
+
+        final List<List<Pending<?, ?, ?>>> groups = new ArrayList<>(pendingByResolver.values());
+        final List<CompletableFuture<Map<?, ?>>> resolved = new ArrayList<>(groups.size());
+        for (final List<Pending<?, ?, ?>> group : groups) {
+            final Set<Object> keys = new LinkedHashSet<>();
+            group.forEach(pending -> keys.add(pending.key));
+            final BulkResolver resolver = group.get(0).parser.resolver;
+            CompletableFuture<Map<?, ?>> future;
+            try {
+                future = resolver.resolve(context, new ArrayList<>(keys));
+            } catch (final RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            resolved.add(future);
+        }
+
+        return CompletableFuture.allOf(resolved.toArray(new CompletableFuture<?>[0])).handle(($, failure) -> {
+            // The values are stored on a single thread, once all resolvers have completed.
+            for (int i = 0; i < groups.size(); i++) {
+                final CompletableFuture<Map<?, ?>> future = resolved.get(i);
+                if (future.isCompletedExceptionally()) {
+                    throw new CompletionException(new CommandExecutionException(unwrap(future), context));
+                }
+                final Map<?, ?> values = future.join();
+                for (final Pending<?, ?, ?> pending : groups.get(i)) {
+                    final Object value = values.get(pending.key);
+                    if (value == null) {
+                        throw new CompletionException(missingValue(context, pending));
+                    }
+                    context.store(pending.name, value);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static @NonNull Throwable unwrap(final @NonNull CompletableFuture<?> future) {
+        try {
+            future.join();
+            throw new IllegalStateException("The future did not fail");
+        } catch (final CompletionException e) {
+            return e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    private static <C> @NonNull ArgumentParseException missingValue(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Pending<?, ?, ?> pending
+    ) {
+        final List<CommandComponent<?>> chain = new ArrayList<>();
+        for (final CommandComponent<C> component : context.command().components()) {
+            chain.add(component);
+            if (component.name().equals(pending.name)) {
+                break;
+            }
+        }
+        return new ArgumentParseException(
+                new BulkParseException(String.valueOf(pending.key), context),
+                context.sender(),
+                chain
+        );
+    }
+
+    /**
+     * Returns the parser that parses the keys.
+     *
+     * @return the key parser
+     */
+    public @NonNull ArgumentParser<C, K> keyParser() {
+        return this.keyParser;
+    }
+
+    /**
+     * Returns the resolver that resolves the values of the keys.
+     *
+     * @return the resolver
+     */
+    public @NonNull BulkResolver<C, K, V> resolver() {
+        return this.resolver;
+    }
+
+    /**
+     * Parses a key without resolving its value. The command tree uses this to parse the keys of a command, and then
+     * {@link #defer(CommandContext, String, Object) defers} the resolution of their values.
+     *
+     * @param commandContext the command context
+     * @param commandInput   the command input
+     * @return future that completes with the parsed key
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<K>> parseKey(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        return this.keyParser.parseFuture(commandContext, commandInput);
+    }
+
+    /**
+     * Defers the resolution of the value of the given {@code key} until {@link #resolvePending(CommandContext)} is invoked,
+     * which stores the value in the context using the given {@code name}.
+     *
+     * @param commandContext the command context
+     * @param name           the name of the component
+     * @param key            the key returned by {@link #parseKey(CommandContext, CommandInput)}
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    @SuppressWarnings("unchecked")
+    public void defer(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull String name,
+            final @NonNull Object key
+    ) {
+        commandContext.computeIfAbsent(PENDING_VALUES, $ -> new PendingValues()).values.add(new Pending<>(this, name, (K) key));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<V>> parseFuture(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        return this.keyParser.parseFuture(commandContext, commandInput).thenCompose(result -> {
+            if (result.failure().isPresent()) {
+                return CompletableFuture.completedFuture(ArgumentParseResult.failure(result.failure().get()));
+            }
+            // The parser is not invoked by the command tree, so the value is resolved right away.
+            final K key = result.parsedValue().get();
+            final CompletableFuture<Map<K, V>> values;
+            try {
+                values = this.resolver.resolve(commandContext, Collections.singletonList(key));
+            } catch (final RuntimeException e) {
+                return CompletableFuture.completedFuture(ArgumentParseResult.failure(e));
+            }
+            return values.handle((resolved, failure) -> {
+                if (failure != null) {
+                    return ArgumentParseResult.failure(failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure);
+                }
+                final V value = resolved.get(key);
+                if (value == null) {
+                    return ArgumentParseResult.failure(new BulkParseException(String.valueOf(key), commandContext));
+                }
+                return ArgumentParseResult.success(value);
+            });
+        });
+    }
+
+    @Override
+    public @NonNull SuggestionProvider<C> suggestionProvider() {
+        return this.keyParser.suggestionProvider();
+    }
+
+
+    private static final class PendingValues {
+
+        private final List<Pending<?, ?, ?>> values = new ArrayList<>();
+    }
+
+
+    private static final class Pending<C, K, V> {
+
+        private final BulkParser<C, K, V> parser;
+        private final String name;
+        private final K key;
+
+        private Pending(final @NonNull BulkParser<C, K, V> parser, final @NonNull String name, final @NonNull K key) {
+            this.parser = parser;
+            this.name = name;
+            this.key = key;
+        }
+
+        @Override
+        public String toString() {
+            return "Pending{key=" + this.key + '}';
+        }
+    }
+
+
+    /**
+     * Exception thrown when no value could be resolved for a key.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class BulkParseException extends ParserException {
+
+        private final String input;
+
+        /**
+         * Creates a new bulk parse exception.
+         *
+         * @param input   the input
+         * @param context the command context
+         */
+        public BulkParseException(
+                final @NonNull String input,
+                final @NonNull CommandContext<?> context
+        ) {
+            super(
+                    BulkParser.class,
+                    context,
+                    StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_BULK,
+                    CaptionVariable.of("input", input)
+            );
+            this.input = input;
+        }
+
+        /**
+         * Returns the input for which no value could be found.
+         *
+         * @return the input
+         */
+        public @NonNull String input() {
+            return this.input;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.bulk;
+
+import java.util.Collection;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.services.ChunkedRequestContext;
+import org.incendo.cloud.services.type.PartialResultService;
+
+/**
+ * Request for the values of multiple keys, that can be fulfilled by {@link PartialResultService partial result services}.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @see BulkResolver#of(PartialResultService)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class BulkRequest<K, V> extends ChunkedRequestContext<K, V> {
+
+    /**
+     * Creates a new request.
+     *
+     * @param keys the requested keys
+     */
+    public BulkRequest(final @NonNull Collection<K> keys) {
+        super(keys);
+    }
+}
@@ -0,0 +1,80 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.bulk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.services.type.PartialResultService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Resolves the values of multiple keys using a single request.
+ *
+ * @param <C> command sender type
+ * @param <K> key type
+ * @param <V> value type
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface BulkResolver<C, K, V> {
+
+    /**
+     * Returns a resolver that resolves the keys using the given {@code service}.
+     *
+     * <p>The service is invoked on the thread that resolves the values, which is the thread that parsed the command.</p>
+     *
+     * @param <C>     command sender type
+     * @param <K>     key type
+     * @param <V>     value type
+     * @param service the service
+     * @return the resolver
+     */
+    static <C, K, V> @NonNull BulkResolver<C, K, V> of(
+            final @NonNull PartialResultService<K, V, BulkRequest<K, V>> service
+    ) {
+        requireNonNull(service, "service");
+        return (context, keys) -> {
+            final BulkRequest<K, V> request = new BulkRequest<>(keys);
+            service.handle(request);
+            return CompletableFuture.completedFuture(request.availableResults());
+        };
+    }
+
+    /**
+     * Resolves the values of the given {@code keys}.
+     *
+     * <p>Keys that are missing from the returned map are considered to have no value, which fails the parsing of the
+     * components that parsed the key.</p>
+     *
+     * @param context the context of the command that is being executed
+     * @param keys    the distinct keys to resolve
+     * @return future that completes with the resolved values
+     */
+    @NonNull CompletableFuture<@NonNull Map<K, V>> resolve(@NonNull CommandContext<C> context, @NonNull List<K> keys);
+}
@@ -0,0 +1,5 @@
+/**
+ * Bulk parsers are parsers that defer the resolution of their values, so that the values of all components of a command
+ * can be resolved together.
+ */
+package org.incendo.cloud.parser.bulk;
@@ -24,18 +24,17 @@
 package org.incendo.cloud.parser.flag;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -46,11 +45,14 @@ import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.ParserException;
+import org.incendo.cloud.internal.SynchronousParsers;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.incendo.cloud.util.CompletableFutures;
 
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public final class CommandFlagParser<C> implements ArgumentParser.FutureArgumentParser<C, Object>, SuggestionProvider<C> {
@@ -65,14 +67,19 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
     public static final CloudKey<String> FLAG_META_KEY = CloudKey.of("__last_flag__", TypeToken.get(String.class));
     /**
      * Metadata for the set of parsed flags, used to detect duplicates.
+     *
+     * @deprecated the parsed flags are no longer stored in the context, they are tracked by the {@link FlagContext}
      */
+    @Deprecated
     public static final CloudKey<Set<CommandFlag<?>>> PARSED_FLAGS = CloudKey.of("__parsed_flags__",
             new TypeToken<Set<CommandFlag<?>>>(){});
 
-    private static final Pattern FLAG_PRIMARY_PATTERN = Pattern.compile(" --(?<name>([A-Za-z]+))");
-    private static final Pattern FLAG_ALIAS_PATTERN = Pattern.compile(" -(?<name>([A-Za-z]+))");
-
     private final Collection<@NonNull CommandFlag<?>> flags;
+    private final Map<String, CommandFlag<?>> flagsByName = new HashMap<>();
+    private final CharTable<CommandFlag<?>> flagsByAlias = new CharTable<>();
+    private final CharTable<List<CommandFlag<?>>> presenceFlagsByAlias = new CharTable<>();
+    private final FlagIndex flagIndex;
+    private final SuggestionTable suggestionTable;
 
     /**
      * Creates a new command flag parser.
@@ -81,6 +88,64 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
      */
     public CommandFlagParser(final @NonNull Collection<@NonNull CommandFlag<?>> flags) {
         this.flags = flags;
+        this.flagIndex = new FlagIndex(flags);
+        this.suggestionTable = new SuggestionTable(flags);
+        // The first flag wins when several flags share a name or alias, just like a linear scan over the flags would.
+        for (final CommandFlag<?> flag : flags) {
+            this.flagsByName.putIfAbsent(foldCase(flag.name()), flag);
+            for (final String alias : flag.aliases()) {
+                final char aliasChar = alias.charAt(0);
+                this.flagsByAlias.putIfAbsent(foldCase(aliasChar), flag);
+                // Argument flags cannot use the combined shorthand form.
+                if (flag.commandComponent() == null) {
+                    List<CommandFlag<?>> presenceFlags = this.presenceFlagsByAlias.get(aliasChar);
+                    if (presenceFlags == null) {
+                        presenceFlags = new ArrayList<>(1);
+                        this.presenceFlagsByAlias.putIfAbsent(aliasChar, presenceFlags);
+                    }
+                    presenceFlags.add(flag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Folds the case of the given character, such that two characters are equal after folding if and only if they are
+     * equal according to {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param c the character
+     * @return the folded character
+     */
+    private static char foldCase(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static @NonNull String foldCase(final @NonNull String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (foldCase(string.charAt(i)) != string.charAt(i)) {
+                final char[] chars = string.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    chars[j] = foldCase(chars[j]);
+                }
+                return new String(chars);
+            }
+        }
+        return string;
+    }
+
+    private static boolean isSet(final long @NonNull [] bits, final int index) {
+        return (bits[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    private @Nullable CommandFlag<?> flagByName(final @NonNull String name) {
+        return this.flagsByName.get(foldCase(name));
+    }
+
+    private @Nullable CommandFlag<?> flagByAlias(final @NonNull String alias) {
+        if (alias.length() != 1) {
+            return null;
+        }
+        return this.flagsByAlias.get(foldCase(alias.charAt(0)));
     }
 
     /**
@@ -150,34 +215,9 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
         /* Check if we have a last flag stored */
         final String lastArg = Objects.requireNonNull(commandContext.getOrDefault(FLAG_META_KEY, ""));
         if (!lastArg.startsWith("-")) {
-            final String readInput = input.readInput();
-            /* Collection containing all used flags */
-            final List<CommandFlag<?>> usedFlags = new LinkedList<>();
-            /* Find all "primary" flags, using --flag */
-            final Matcher primaryMatcher = FLAG_PRIMARY_PATTERN.matcher(readInput);
-            while (primaryMatcher.find()) {
-                final String name = primaryMatcher.group("name");
-                for (final CommandFlag<?> flag : this.flags) {
-                    if (flag.name().equalsIgnoreCase(name)) {
-                        usedFlags.add(flag);
-                        break;
-                    }
-                }
-            }
-            /* Find all alias flags */
-            final Matcher aliasMatcher = FLAG_ALIAS_PATTERN.matcher(readInput);
-            while (aliasMatcher.find()) {
-                final String name = aliasMatcher.group("name");
-                for (final CommandFlag<?> flag : this.flags) {
-                    for (final String alias : flag.aliases()) {
-                        /* Aliases are single-char strings */
-                        if (name.contains(alias)) {
-                            usedFlags.add(flag);
-                            break;
-                        }
-                    }
-                }
-            }
+            final SuggestionTable table = this.suggestionTable;
+            /* Flags that are already used, found by scanning for "--flag" and "-abc" */
+            final long[] usedFlags = table.usedFlags(input.readInput());
             final String nextToken = input.peekString();
             final String currentFlag;
             if (nextToken.length() > 1) {
@@ -185,66 +225,57 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
             } else {
                 currentFlag = "";
             }
-            /* Suggestions */
-            final List<Suggestion> suggestions = new LinkedList<>();
-            /* Recommend "primary" flags */
-            for (final CommandFlag<?> flag : this.flags) {
-                if (usedFlags.contains(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+            /* Flags that are still available and that the sender may use */
+            final long[] availableFlags = new long[usedFlags.length];
+            final byte[] permissionResults = new byte[table.permissions.length];
+            int availableAliases = 0;
+            for (int i = 0; i < table.flags.length; i++) {
+                if (isSet(usedFlags, i) && table.flags[i].mode() != CommandFlag.FlagMode.REPEATABLE) {
                     continue;
                 }
-                if (!commandContext.hasPermission(flag.permission())) {
+                if (!table.permitted(commandContext, i, permissionResults)) {
                     continue;
                 }
-
-                suggestions.add(Suggestion.suggestion(String.format("--%s", flag.name())));
+                availableFlags[i / Long.SIZE] |= 1L << i;
+                availableAliases += table.aliases[i].length;
+            }
+            /* Suggestions */
+            final List<Suggestion> suggestions = new ArrayList<>(table.flags.length + availableAliases + 1);
+            /* Recommend "primary" flags */
+            for (int i = 0; i < table.flags.length; i++) {
+                if (isSet(availableFlags, i)) {
+                    suggestions.add(table.names[i]);
+                }
             }
             /* Recommend aliases */
             final boolean suggestCombined = nextToken.length() > 1 && nextToken.startsWith("-") && !nextToken.startsWith("--");
-            for (final CommandFlag<?> flag : this.flags) {
-                if (usedFlags.contains(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
-                    continue;
-                }
-                if (!commandContext.hasPermission(flag.permission())) {
+            for (int i = 0; i < table.flags.length; i++) {
+                if (!isSet(availableFlags, i)) {
                     continue;
                 }
-
-                for (final String alias : flag.aliases()) {
-                    if (alias.equalsIgnoreCase(currentFlag)) {
+                final String[] aliases = table.aliases[i];
+                for (int j = 0; j < aliases.length; j++) {
+                    if (aliases[j].equalsIgnoreCase(currentFlag)) {
                         continue;
                     }
-                    if (suggestCombined && flag.commandComponent() == null) {
-                        suggestions.add(Suggestion.suggestion(String.format("%s%s", input.peekString(), alias)));
+                    if (suggestCombined && table.flags[i].commandComponent() == null) {
+                        suggestions.add(Suggestion.suggestion(nextToken + aliases[j]));
                     } else {
-                        suggestions.add(Suggestion.suggestion(String.format("-%s", alias)));
+                        suggestions.add(table.aliasSuggestions[i][j]);
                     }
                 }
             }
             /* If we are suggesting the combined flag, then also suggest the current input */
             if (suggestCombined) {
-                suggestions.add(Suggestion.suggestion(input.peekString()));
+                suggestions.add(Suggestion.suggestion(nextToken));
             }
             return CompletableFuture.completedFuture(suggestions);
         } else {
             CommandFlag<?> currentFlag = null;
             if (lastArg.startsWith("--")) { // --long
-                final String flagName = lastArg.substring(2);
-                for (final CommandFlag<?> flag : this.flags) {
-                    if (flagName.equalsIgnoreCase(flag.name())) {
-                        currentFlag = flag;
-                        break;
-                    }
-                }
+                currentFlag = this.flagByName(lastArg.substring(2));
             } else { // -x
-                final String flagName = lastArg.substring(1);
-                outer:
-                for (final CommandFlag<?> flag : this.flags) {
-                    for (final String alias : flag.aliases()) {
-                        if (alias.equalsIgnoreCase(flagName)) {
-                            currentFlag = flag;
-                            break outer;
-                        }
-                    }
-                }
+                currentFlag = this.flagByAlias(lastArg.substring(1));
             }
             if (currentFlag != null
                     && commandContext.hasPermission(currentFlag.permission())
@@ -312,8 +343,10 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
                     CommandFlagParser.class,
                     context,
                     failureReason.caption(),
-                    CaptionVariable.of("input", input),
-                    CaptionVariable.of("flag", input)
+                    () -> new CaptionVariable[]{
+                            CaptionVariable.of("input", input),
+                            CaptionVariable.of("flag", input)
+                    }
             );
             this.input = input;
             this.failureReason = failureReason;
@@ -340,39 +373,206 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
     }
 
 
+    /**
+     * Immutable table of the formatted flag suggestions, which is computed once per parser.
+     *
+     * <p>The flags are addressed by their position in the flag collection of the parser. Sets of flags are represented
+     * as bitsets using the same positions.</p>
+     */
+    private static final class SuggestionTable {
+
+        private final CommandFlag<?>[] flags;
+        private final Suggestion[] names;
+        private final String[][] aliases;
+        private final Suggestion[][] aliasSuggestions;
+        private final Permission[] permissions;
+        private final int[] permissionIndices;
+        private final Map<String, Integer> positionsByName = new HashMap<>();
+        private final CharTable<int[]> positionsByAlias = new CharTable<>();
+
+        private SuggestionTable(final @NonNull Collection<@NonNull CommandFlag<?>> flags) {
+            this.flags = flags.toArray(new CommandFlag<?>[0]);
+            this.names = new Suggestion[this.flags.length];
+            this.aliases = new String[this.flags.length][];
+            this.aliasSuggestions = new Suggestion[this.flags.length][];
+            this.permissionIndices = new int[this.flags.length];
+
+            final List<Permission> permissions = new ArrayList<>();
+            final Map<Character, int[]> positionsByAlias = new HashMap<>();
+            for (int i = 0; i < this.flags.length; i++) {
+                final CommandFlag<?> flag = this.flags[i];
+                this.names[i] = Suggestion.suggestion("--" + flag.name());
+                this.positionsByName.putIfAbsent(foldCase(flag.name()), i);
+
+                this.aliases[i] = flag.aliases().toArray(new String[0]);
+                this.aliasSuggestions[i] = new Suggestion[this.aliases[i].length];
+                for (int j = 0; j < this.aliases[i].length; j++) {
+                    final char alias = this.aliases[i][j].charAt(0);
+                    this.aliasSuggestions[i][j] = Suggestion.suggestion("-" + alias);
+                    final int[] positions = positionsByAlias.get(alias);
+                    final int[] newPositions = positions == null ? new int[1] : Arrays.copyOf(positions, positions.length + 1);
+                    newPositions[newPositions.length - 1] = i;
+                    positionsByAlias.put(alias, newPositions);
+                }
+
+                final int permissionIndex = permissions.indexOf(flag.permission());
+                if (permissionIndex >= 0) {
+                    this.permissionIndices[i] = permissionIndex;
+                } else {
+                    this.permissionIndices[i] = permissions.size();
+                    permissions.add(flag.permission());
+                }
+            }
+            positionsByAlias.forEach(this.positionsByAlias::putIfAbsent);
+            this.permissions = permissions.toArray(new Permission[0]);
+        }
+
+        /**
+         * Returns the flags that are used in the given {@code input}, as "--flag" or as part of "-abc".
+         *
+         * @param input the input that has been parsed
+         * @return bitset of the used flags
+         */
+        private long @NonNull [] usedFlags(final @NonNull String input) {
+            final long[] used = new long[(this.flags.length + Long.SIZE - 1) / Long.SIZE];
+            for (int i = 0; i + 2 < input.length(); i++) {
+                if (input.charAt(i) != ' ' || input.charAt(i + 1) != '-') {
+                    continue;
+                }
+                final boolean primary = input.charAt(i + 2) == '-';
+                final int start = primary ? i + 3 : i + 2;
+                int end = start;
+                while (end < input.length() && isAsciiLetter(input.charAt(end))) {
+                    end++;
+                }
+                if (end == start) {
+                    continue;
+                }
+                if (primary) {
+                    final Integer position = this.positionsByName.get(foldCase(input.substring(start, end)));
+                    if (position != null) {
+                        used[position / Long.SIZE] |= 1L << position;
+                    }
+                } else {
+                    for (int j = start; j < end; j++) {
+                        final int[] positions = this.positionsByAlias.get(input.charAt(j));
+                        if (positions == null) {
+                            continue;
+                        }
+                        for (final int position : positions) {
+                            used[position / Long.SIZE] |= 1L << position;
+                        }
+                    }
+                }
+                i = end - 1;
+            }
+            return used;
+        }
+
+        /**
+         * Returns whether the sender may use the flag at the given {@code position}. Each distinct permission is only
+         * tested once per suggestion request.
+         *
+         * @param commandContext    the command context
+         * @param position          the position of the flag
+         * @param permissionResults the cached permission results, where {@code 0} means not tested yet
+         * @return {@code true} if the sender has the permission of the flag
+         */
+        private boolean permitted(
+                final @NonNull CommandContext<?> commandContext,
+                final int position,
+                final byte @NonNull [] permissionResults
+        ) {
+            final int permissionIndex = this.permissionIndices[position];
+            if (permissionResults[permissionIndex] == 0) {
+                permissionResults[permissionIndex] =
+                        commandContext.hasPermission(this.permissions[permissionIndex]) ? (byte) 1 : (byte) -1;
+            }
+            return permissionResults[permissionIndex] > 0;
+        }
+
+        private static boolean isAsciiLetter(final char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+    }
+
+
+    /**
+     * Table of values indexed by character, backed by an array for ASCII characters.
+     *
+     * @param <T> value type
+     */
+    private static final class CharTable<T> {
+
+        private static final int ASCII_SIZE = 128;
+
+        private final Object[] ascii = new Object[ASCII_SIZE];
+        private final Map<Character, T> other = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private @Nullable T get(final char c) {
+            if (c < ASCII_SIZE) {
+                return (T) this.ascii[c];
+            }
+            return this.other.get(c);
+        }
+
+        private void putIfAbsent(final char c, final @NonNull T value) {
+            if (c < ASCII_SIZE) {
+                if (this.ascii[c] == null) {
+                    this.ascii[c] = value;
+                }
+            } else {
+                this.other.putIfAbsent(c, value);
+            }
+        }
+    }
+
+
     /**
      * Helper class to parse the command input queue into flags
      * and flag values. On failure the intermediate results
      * can be obtained, which are used for providing suggestions.
+     *
+     * <p>Flags are parsed in a plain loop. The loop only continues asynchronously after a flag value has been parsed by
+     * a parser that is not synchronous.</p>
      */
     private final class FlagParser {
 
         private String lastParsedFlag;
+        private int remainingIterations;
 
-        @SuppressWarnings({"unchecked", "rawtypes"})
         private @NonNull CompletableFuture<@NonNull ArgumentParseResult<Object>> parse(
                 final @NonNull CommandContext<@NonNull C> commandContext,
                 final @NonNull CommandInput commandInput
         ) {
-            CompletableFuture<ArgumentParseResult<Object>> result = CompletableFuture.completedFuture(null);
-            final Set<CommandFlag<?>> parsedFlags = commandContext.computeIfAbsent(PARSED_FLAGS, k -> new HashSet());
+            final FlagContext flagContext = commandContext.flags();
+            flagContext.index(CommandFlagParser.this.flagIndex);
+            this.remainingIterations = commandInput.remainingTokens() + 1;
+            return this.parseRemaining(commandContext, commandInput, flagContext);
+        }
 
-            final int remainingTokens = commandInput.remainingTokens();
-            for (int i = 0; i <= remainingTokens; i++) {
-                result = result.thenCompose(parseResult -> {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private @NonNull CompletableFuture<@NonNull ArgumentParseResult<Object>> parseRemaining(
+                final @NonNull CommandContext<@NonNull C> commandContext,
+                final @NonNull CommandInput commandInput,
+                final @NonNull FlagContext flagContext
+        ) {
+            try {
+                while (this.remainingIterations-- > 0) {
                     // The previous flag might have left us with trailing whitespace. We remove it so that we
                     // do not have to account for it throughout the parsing process.
                     commandInput.skipWhitespace();
 
-                    if (parseResult != null || commandInput.isEmpty()) {
-                        return CompletableFuture.completedFuture(parseResult);
+                    if (commandInput.isEmpty()) {
+                        break;
                     }
 
                     final String string = commandInput.peekString();
 
                     if (!string.startsWith("-")) {
                         // If we're not starting a new flag then we're outside the scope of this parser. We exit.
-                        return CompletableFuture.completedFuture(ArgumentParseResult.success(FLAG_PARSE_RESULT_OBJECT));
+                        break;
                     }
 
                     // We're definitely not supplying anything to the flag.
@@ -386,108 +586,56 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
                     }
 
                     final String flagName = commandInput.readStringSkipWhitespace();
-                    CommandFlag<?> flag = null;
+                    final CommandFlag<?> flag;
 
                     if (string.startsWith("--")) {
-                        for (final CommandFlag<?> flagCandidate : CommandFlagParser.this.flags) {
-                            if (flagName.equalsIgnoreCase(flagCandidate.name())) {
-                                flag = flagCandidate;
-                                break;
-                            }
-                        }
+                        flag = CommandFlagParser.this.flagByName(flagName);
                     } else if (flagName.length() == 1) {
-                        outer:
-                        for (final CommandFlag<?> flagCandidate : CommandFlagParser.this.flags) {
-                            for (final String alias : flagCandidate.aliases()) {
-                                if (alias.equalsIgnoreCase(flagName)) {
-                                    flag = flagCandidate;
-                                    break outer;
-                                }
-                            }
-                        }
+                        flag = CommandFlagParser.this.flagByAlias(flagName);
                     } else {
-                        boolean flagFound = false;
-                        for (int j = 0; j < flagName.length(); j++) {
-                            final String parsedFlag = Character.toString(flagName.charAt(j)).toLowerCase(Locale.ENGLISH);
-                            for (final CommandFlag<?> candidateFlag : CommandFlagParser.this.flags) {
-                                // Argument flags cannot use the shorthand form in this way.
-                                if (candidateFlag.commandComponent() != null) {
-                                    continue;
-                                }
-
-                                if (!candidateFlag.aliases().contains(parsedFlag)) {
-                                    continue;
-                                }
-
-                                if (parsedFlags.contains(candidateFlag) && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
-                                    return this.fail(
-                                            new FlagParseException(
-                                                    string,
-                                                    FailureReason.DUPLICATE_FLAG,
-                                                    commandContext
-                                            )
-                                    );
-                                } else if (!commandContext.hasPermission(candidateFlag.permission())) {
-                                    return this.fail(
-                                            new FlagParseException(
-                                                    string,
-                                                    FailureReason.NO_PERMISSION,
-                                                    commandContext
-                                            )
-                                    );
-                                }
-
-                                commandContext.flags().addPresenceFlag(candidateFlag);
-                                parsedFlags.add(candidateFlag);
-                                flagFound = true;
-                            }
-                        }
-
-                        if (!flagFound) {
-                            return this.fail(
-                                    new FlagParseException(
-                                            string,
-                                            FailureReason.NO_FLAG_STARTED,
-                                            commandContext
-                                    )
-                            );
+                        final ArgumentParseResult<Object> failure = this.parseCombined(
+                                commandContext,
+                                string,
+                                flagName,
+                                flagContext
+                        );
+                        if (failure != null) {
+                            return this.fail(commandInput, failure);
                         }
-
                         // This type of flag can never have a value. We move on to the next flag.
-                        return CompletableFuture.completedFuture(null);
+                        continue;
                     }
 
                     if (flag == null) {
-                        return this.fail(
+                        return this.fail(commandInput, ArgumentParseResult.failure(
                                 new FlagParseException(
                                         string,
                                         FailureReason.UNKNOWN_FLAG,
                                         commandContext
                                 )
-                        );
-                    } else if (parsedFlags.contains(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
-                        return this.fail(
+                        ));
+                    } else if (flagContext.parsed(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                        return this.fail(commandInput, ArgumentParseResult.failure(
                                 new FlagParseException(
                                         string,
                                         FailureReason.DUPLICATE_FLAG,
                                         commandContext
                                 )
-                        );
+                        ));
                     } else if (!commandContext.hasPermission(flag.permission())) {
-                        return this.fail(
+                        return this.fail(commandInput, ArgumentParseResult.failure(
                                 new FlagParseException(
                                         string,
                                         FailureReason.NO_PERMISSION,
                                         commandContext
                                 )
-                        );
+                        ));
                     }
 
                     // The flag has no argument, so we're done.
                     if (flag.commandComponent() == null) {
-                        commandContext.flags().addPresenceFlag(flag);
-                        parsedFlags.add(flag);
-                        return CompletableFuture.completedFuture(null);
+                        flagContext.addPresenceFlag(flag);
+                        continue;
                     }
 
                     // If the command input ends with a space then we set lastParsedFlag before checking if the command
@@ -501,13 +649,13 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
                     // If there is no input (a space cannot be parsed into anything) then
                     // we cannot complete this flag.
                     if (commandInput.isEmpty(true /* ignoreWhitespace */)) {
-                        return this.fail(
+                        return this.fail(commandInput, ArgumentParseResult.failure(
                                 new FlagParseException(
                                         flag.name(),
                                         FailureReason.MISSING_ARGUMENT,
                                         commandContext
                                 )
-                        );
+                        ));
                     }
 
                     // Indicate that we parsed the flag and that we're trying to populate the value for it.
@@ -515,40 +663,129 @@ public final class CommandFlagParser<C> implements ArgumentParser.FutureArgument
 
                     // We then attempt to parse the flag.
                     final CommandFlag parsingFlag = flag;
-                    return ((CommandComponent<C>) flag.commandComponent())
-                            .parser()
-                            .parseFuture(
-                                    commandContext,
-                                    commandInput
-                            ).thenApply(parsedValue -> {
-                                // Forward parsing errors.
-                                if (parsedValue.failure().isPresent()) {
-                                    return (ArgumentParseResult<Object>) parsedValue;
-                                }
-
-                                // We store the parsed flag in the context. We do ugly erasure here because generics :)
-                                commandContext.flags().addValueFlag(parsingFlag, (Object) parsedValue.parsedValue().get());
-                                // At this point we know the flag parsed successfully.
-                                parsedFlags.add(parsingFlag);
-
-                                // We're no longer parsing a flag.
-                                this.lastParsedFlag = null;
-
-                                return null;
-                            });
-                });
+                    final ArgumentParser<C, ?> parser = ((CommandComponent<C>) flag.commandComponent()).parser();
+                    if (SynchronousParsers.isSynchronous(parser)) {
+                        final ArgumentParseResult<?> parsedValue = parser.parse(commandContext, commandInput);
+                        if (!this.storeValue(parsingFlag, parsedValue, flagContext)) {
+                            return this.fail(commandInput, parsedValue);
+                        }
+                        continue;
+                    }
+
+                    return parser.parseFuture(commandContext, commandInput).thenCompose(parsedValue -> {
+                        if (!this.storeValue(parsingFlag, parsedValue, flagContext)) {
+                            return this.fail(commandInput, parsedValue);
+                        }
+                        return this.parseRemaining(commandContext, commandInput, flagContext);
+                    });
+                }
+            } catch (final RuntimeException e) {
+                return CompletableFutures.failedFuture(e);
             }
 
             // We've consumed everything!
-            return result.thenApply(r -> r == null ? ArgumentParseResult.success(FLAG_PARSE_RESULT_OBJECT) : r);
+            return CompletableFuture.completedFuture(ArgumentParseResult.success(FLAG_PARSE_RESULT_OBJECT));
+        }
+
+        /**
+         * Parses combined presence flags, such as {@code -abc}.
+         *
+         * @param commandContext the command context
+         * @param string         the token
+         * @param flagName       the token without the leading dash
+         * @param flagContext    the flag context
+         * @return the failure, or {@code null} if the flags were parsed successfully
+         */
+        private @Nullable ArgumentParseResult<Object> parseCombined(
+                final @NonNull CommandContext<@NonNull C> commandContext,
+                final @NonNull String string,
+                final @NonNull String flagName,
+                final @NonNull FlagContext flagContext
+        ) {
+            boolean flagFound = false;
+            for (int j = 0; j < flagName.length(); j++) {
+                final List<CommandFlag<?>> candidateFlags =
+                        CommandFlagParser.this.presenceFlagsByAlias.get(Character.toLowerCase(flagName.charAt(j)));
+                if (candidateFlags == null) {
+                    continue;
+                }
+                for (final CommandFlag<?> candidateFlag : candidateFlags) {
+                    if (flagContext.parsed(candidateFlag) && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                        return ArgumentParseResult.failure(
+                                new FlagParseException(
+                                        string,
+                                        FailureReason.DUPLICATE_FLAG,
+                                        commandContext
+                                )
+                        );
+                    } else if (!commandContext.hasPermission(candidateFlag.permission())) {
+                        return ArgumentParseResult.failure(
+                                new FlagParseException(
+                                        string,
+                                        FailureReason.NO_PERMISSION,
+                                        commandContext
+                                )
+                        );
+                    }
+
+                    flagContext.addPresenceFlag(candidateFlag);
+                    flagFound = true;
+                }
+            }
+
+            if (!flagFound) {
+                return ArgumentParseResult.failure(
+                        new FlagParseException(
+                                string,
+                                FailureReason.NO_FLAG_STARTED,
+                                commandContext
+                        )
+                );
+            }
+            return null;
+        }
+
+        /**
+         * Stores the parsed value of a flag.
+         *
+         * @param flag        the flag
+         * @param parsedValue the result of parsing the value
+         * @param flagContext the flag context
+         * @return {@code true} if the value was stored, {@code false} if the parsing failed
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private boolean storeValue(
+                final @NonNull CommandFlag flag,
+                final @NonNull ArgumentParseResult<?> parsedValue,
+                final @NonNull FlagContext flagContext
+        ) {
+            // Forward parsing errors.
+            if (parsedValue.failure().isPresent()) {
+                return false;
+            }
+
+            // We store the parsed flag in the context. We do ugly erasure here because generics :)
+            flagContext.addValueFlag(flag, (Object) parsedValue.parsedValue().get());
+
+            // We're no longer parsing a flag.
+            this.lastParsedFlag = null;
+            return true;
         }
 
         private @Nullable String lastParsedFlag() {
             return this.lastParsedFlag;
         }
 
-        private @NonNull CompletableFuture<ArgumentParseResult<Object>> fail(final @NonNull Throwable exception) {
-            return CompletableFuture.completedFuture(ArgumentParseResult.failure(exception));
+        @SuppressWarnings("unchecked")
+        private @NonNull CompletableFuture<ArgumentParseResult<Object>> fail(
+                final @NonNull CommandInput commandInput,
+                final @NonNull ArgumentParseResult<?> failure
+        ) {
+            // Trailing whitespace is skipped after a failure, unless the failing flag was the last token.
+            if (this.remainingIterations > 0) {
+                commandInput.skipWhitespace();
+            }
+            return CompletableFuture.completedFuture((ArgumentParseResult<Object>) failure);
         }
     }
 }
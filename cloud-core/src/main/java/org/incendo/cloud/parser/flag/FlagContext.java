@@ -36,6 +36,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Flag value mappings
+ *
+ * <p>When the flags of the command are known, every flag is given a dense index. Presence is then tracked in a
+ * bitset and the first value of each flag is stored in an index-addressed slot. Only flags that are supplied more than
+ * once, and flags that are not part of the index, are stored in lists.</p>
  */
 @API(status = API.Status.STABLE)
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -46,10 +50,17 @@ public final class FlagContext {
      */
     public static final Object FLAG_PRESENCE_VALUE = new Object();
 
-    private final Map<String, List> flagValues;
+    private static final int BITS_PER_WORD = 64;
+
+    private @Nullable FlagIndex index;
+    private long @Nullable [] present;
+    private @Nullable Object @Nullable [] firstValues;
+    /**
+     * All values of flags that are not indexed, and of indexed flags that have been supplied more than once.
+     */
+    private @Nullable Map<String, List> flagValues;
 
     private FlagContext() {
-        this.flagValues = new HashMap<>();
     }
 
     /**
@@ -67,10 +78,7 @@ public final class FlagContext {
      * @param flag Flag instance
      */
     public void addPresenceFlag(final @NonNull CommandFlag<?> flag) {
-        ((List<Object>) this.flagValues.computeIfAbsent(
-                flag.name(),
-                $ -> new ArrayList<>()
-        )).add(FLAG_PRESENCE_VALUE);
+        this.add(flag.name(), FLAG_PRESENCE_VALUE);
     }
 
     /**
@@ -84,10 +92,90 @@ public final class FlagContext {
             final @NonNull CommandFlag<T> flag,
             final @NonNull T value
     ) {
-        ((List<T>) this.flagValues.computeIfAbsent(
-                flag.name(),
-                $ -> new ArrayList<>()
-        )).add(value);
+        this.add(flag.name(), value);
+    }
+
+    /**
+     * Indexes the flags stored in this context using the given {@code index}. This has no effect if flags have already
+     * been stored, or if the context has already been indexed.
+     *
+     * @param index the flag index
+     */
+    void index(final @NonNull FlagIndex index) {
+        if (this.index == null && this.flagValues == null) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Returns whether any value has been stored for the given {@code flag}.
+     *
+     * @param flag the flag
+     * @return {@code true} if the flag has been stored
+     */
+    boolean parsed(final @NonNull CommandFlag<?> flag) {
+        return this.first(flag.name()) != null;
+    }
+
+    private int slot(final @NonNull String name) {
+        return this.index == null ? -1 : this.index.indexOf(name);
+    }
+
+    private boolean isSet(final int slot) {
+        return this.present != null && (this.present[slot / BITS_PER_WORD] & (1L << slot)) != 0;
+    }
+
+    private void add(final @NonNull String name, final @NonNull Object value) {
+        final int slot = this.slot(name);
+        if (slot < 0) {
+            this.values().computeIfAbsent(name, $ -> new ArrayList<>()).add(value);
+            return;
+        }
+        if (this.present == null) {
+            final int size = this.index.size();
+            this.present = new long[(size + BITS_PER_WORD - 1) / BITS_PER_WORD];
+            this.firstValues = new Object[size];
+        }
+        if (!this.isSet(slot)) {
+            this.present[slot / BITS_PER_WORD] |= 1L << slot;
+            this.firstValues[slot] = value;
+            return;
+        }
+        List values = this.flagValues == null ? null : this.flagValues.get(name);
+        if (values == null) {
+            values = new ArrayList<>();
+            values.add(this.firstValues[slot]);
+            this.values().put(name, values);
+        }
+        values.add(value);
+    }
+
+    private @NonNull Map<String, List> values() {
+        if (this.flagValues == null) {
+            this.flagValues = new HashMap<>();
+        }
+        return this.flagValues;
+    }
+
+    private @Nullable Object first(final @NonNull String name) {
+        final int slot = this.slot(name);
+        if (slot >= 0) {
+            return this.isSet(slot) ? this.firstValues[slot] : null;
+        }
+        final List values = this.flagValues == null ? null : this.flagValues.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private @NonNull List all(final @NonNull String name) {
+        final List values = this.flagValues == null ? null : this.flagValues.get(name);
+        if (values != null) {
+            return Collections.unmodifiableList(values);
+        }
+        final int slot = this.slot(name);
+        if (slot >= 0 && this.isSet(slot)) {
+            return Collections.singletonList(this.firstValues[slot]);
+        }
+        return Collections.emptyList();
     }
 
     /**
@@ -122,8 +210,7 @@ public final class FlagContext {
      *         else {@code false}
      */
     public boolean isPresent(final @NonNull String flag) {
-        final List value = this.flagValues.get(flag);
-        return value != null && !value.isEmpty();
+        return this.first(flag) != null;
     }
 
     /**
@@ -155,11 +242,7 @@ public final class FlagContext {
     public <T> @NonNull Optional<T> getValue(
             final @NonNull String name
     ) {
-        final List value = this.flagValues.get(name);
-        if (value == null || value.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of((T) value.get(0));
+        return Optional.ofNullable((T) this.first(name));
     }
 
     /**
@@ -328,11 +411,7 @@ public final class FlagContext {
     public <T> @NonNull Collection<T> getAll(
             final @NonNull CommandFlag<T> flag
     ) {
-        final List values = this.flagValues.get(flag.name());
-        if (values != null) {
-            return Collections.unmodifiableList((List<T>) values);
-        }
-        return Collections.emptyList();
+        return this.all(flag.name());
     }
 
     /**
@@ -346,10 +425,6 @@ public final class FlagContext {
     public <T> @NonNull Collection<T> getAll(
             final @NonNull String flag
     ) {
-        final List values = this.flagValues.get(flag);
-        if (values != null) {
-            return Collections.unmodifiableList((List<T>) values);
-        }
-        return Collections.emptyList();
+        return this.all(flag);
     }
 }
@@ -0,0 +1,65 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.flag;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Dense indices for the flags of a {@link CommandFlagParser}, used by {@link FlagContext} to store the flags in
+ * index-addressed slots.
+ */
+final class FlagIndex {
+
+    private final Map<String, Integer> indices;
+
+    FlagIndex(final @NonNull Collection<@NonNull CommandFlag<?>> flags) {
+        this.indices = new HashMap<>(flags.size() * 2);
+        for (final CommandFlag<?> flag : flags) {
+            this.indices.putIfAbsent(flag.name(), this.indices.size());
+        }
+    }
+
+    /**
+     * Returns the index of the flag with the given {@code name}.
+     *
+     * @param name the flag name
+     * @return the index, or {@code -1} if the flag is not indexed
+     */
+    int indexOf(final @NonNull String name) {
+        final Integer index = this.indices.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the number of indexed flags.
+     *
+     * @return the number of flags
+     */
+    int size() {
+        return this.indices.size();
+    }
+}
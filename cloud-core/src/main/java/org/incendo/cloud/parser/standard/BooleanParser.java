@@ -41,7 +41,7 @@ import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 
 @API(status = API.Status.STABLE)
-public final class BooleanParser<C> implements ArgumentParser<C, Boolean>, BlockingSuggestionProvider.Strings<C> {
+public final class BooleanParser<C> implements ArgumentParser<C, Boolean>, BlockingSuggestionProvider.Strings<C>, ArgumentParser.Stateless {
 
     private static final List<String> STRICT_LOWER = CommandInput.BOOLEAN_STRICT
             .stream().map(s -> s.toLowerCase(Locale.ROOT)).collect(Collectors.toList());
@@ -30,13 +30,15 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.NumberParseException;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 import org.incendo.cloud.type.range.ByteRange;
 import org.incendo.cloud.type.range.Range;
 
 @API(status = API.Status.STABLE)
-public final class ByteParser<C> extends NumberParser<C, Byte, ByteRange> implements BlockingSuggestionProvider.Strings<C> {
+public final class ByteParser<C> extends NumberParser<C, Byte, ByteRange> implements BlockingSuggestionProvider.Strings<C>,
+        ArgumentParser.Stateless {
 
     /**
      * Constant for the default/unset minimum value.
@@ -145,7 +147,7 @@ public final class ByteParser<C> extends NumberParser<C, Byte, ByteRange> implem
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return IntegerParser.getSuggestions(this.range(), input);
+        return this.integerSuggestions(input);
     }
 
 
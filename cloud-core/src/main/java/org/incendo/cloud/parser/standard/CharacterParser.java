@@ -37,7 +37,7 @@ import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 
 @API(status = API.Status.STABLE)
-public final class CharacterParser<C> implements ArgumentParser<C, Character> {
+public final class CharacterParser<C> implements ArgumentParser<C, Character>, ArgumentParser.Stateless {
 
     /**
      * Creates a new character parser.
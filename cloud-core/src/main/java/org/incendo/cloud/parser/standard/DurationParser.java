@@ -25,8 +25,7 @@ package org.incendo.cloud.parser.standard;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -49,7 +48,8 @@ import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
-public final class DurationParser<C> implements ArgumentParser<C, Duration>, BlockingSuggestionProvider.Strings<C> {
+public final class DurationParser<C> implements ArgumentParser<C, Duration>, BlockingSuggestionProvider.Strings<C>,
+        ArgumentParser.Stateless {
 
     /**
      * Creates a new duration parser.
@@ -73,10 +73,9 @@ public final class DurationParser<C> implements ArgumentParser<C, Duration>, Blo
         return CommandComponent.<C, Duration>builder().parser(durationParser());
     }
 
-    /**
-     * Matches durations in the format of: <code>2d15h7m12s</code>
-     */
-    private static final Pattern DURATION_PATTERN = Pattern.compile("(([1-9][0-9]+|[1-9])[dhms])");
+    private static final List<@NonNull String> EMPTY_INPUT_SUGGESTIONS = Collections.unmodifiableList(
+            IntStream.range(1, 10).mapToObj(String::valueOf).collect(Collectors.toList())
+    );
 
     @Override
     public @NonNull ArgumentParseResult<Duration> parse(
@@ -84,38 +83,74 @@ public final class DurationParser<C> implements ArgumentParser<C, Duration>, Blo
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
+        final long seconds = parseSeconds(input);
+        if (seconds <= 0) {
+            return ArgumentParseResult.failure(new DurationParseException(input, commandContext));
+        }
+        return ArgumentParseResult.success(Duration.ofSeconds(seconds));
+    }
 
-        final Matcher matcher = DURATION_PATTERN.matcher(input);
-
-        Duration duration = Duration.ofNanos(0);
-
-        while (matcher.find()) {
-            String group = matcher.group();
-            String timeUnit = String.valueOf(group.charAt(group.length() - 1));
-            int timeValue = Integer.parseInt(group.substring(0, group.length() - 1));
-            switch (timeUnit) {
-                case "d":
-                    duration = duration.plusDays(timeValue);
-                    break;
-                case "h":
-                    duration = duration.plusHours(timeValue);
-                    break;
-                case "m":
-                    duration = duration.plusMinutes(timeValue);
-                    break;
-                case "s":
-                    duration = duration.plusSeconds(timeValue);
-                    break;
-                default:
-                    return ArgumentParseResult.failure(new DurationParseException(input, commandContext));
+    /**
+     * Sums up all durations in the format of <code>2d15h7m12s</code> that are found in the input. A duration is a number
+     * without leading zeros followed by one of the units, and any other characters are ignored.
+     *
+     * @param input the input
+     * @return the total number of seconds, {@code 0} if no duration is found or {@code -1} if the total overflows
+     */
+    private static long parseSeconds(final @NonNull String input) {
+        final int length = input.length();
+        long seconds = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isDigit(input.charAt(i))) {
+                i++;
+                continue;
             }
-        }
 
-        if (duration.isZero()) {
-            return ArgumentParseResult.failure(new DurationParseException(input, commandContext));
+            // Leading zeros are skipped, which also skips numbers that are entirely zeros.
+            long value = 0;
+            boolean overflow = false;
+            for (; i < length && isDigit(input.charAt(i)); i++) {
+                final int digit = input.charAt(i) - '0';
+                if (value > (Long.MAX_VALUE - digit) / 10) {
+                    overflow = true;
+                } else {
+                    value = value * 10 + digit;
+                }
+            }
+            if (i == length || value == 0) {
+                continue;
+            }
+
+            final long unit = unitSeconds(input.charAt(i++));
+            if (unit == 0) {
+                continue;
+            }
+            if (overflow || value > (Long.MAX_VALUE - seconds) / unit) {
+                return -1;
+            }
+            seconds += value * unit;
         }
+        return seconds;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
 
-        return ArgumentParseResult.success(duration);
+    private static long unitSeconds(final char unit) {
+        switch (unit) {
+            case 'd':
+                return 86_400L;
+            case 'h':
+                return 3_600L;
+            case 'm':
+                return 60L;
+            case 's':
+                return 1L;
+            default:
+                return 0L;
+        }
     }
 
     @Override
@@ -124,10 +159,7 @@ public final class DurationParser<C> implements ArgumentParser<C, Duration>, Blo
             final @NonNull CommandInput input
     ) {
         if (input.isEmpty(true)) {
-            return IntStream.range(1, 10).boxed()
-                    .sorted()
-                    .map(String::valueOf)
-                    .collect(Collectors.toList());
+            return EMPTY_INPUT_SUGGESTIONS;
         }
 
         // 1d_, 5d4m_, etc
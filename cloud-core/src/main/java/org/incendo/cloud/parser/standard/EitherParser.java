@@ -39,12 +39,14 @@ import org.incendo.cloud.caption.StandardCaptionKeys;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.ParserException;
+import org.incendo.cloud.internal.SynchronousParsers;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.type.Either;
+import org.incendo.cloud.util.CompletableFutures;
 
 /**
  * A parser which attempts to use the {@link #primary()} parser and falls back on the {@link #fallback()} parser if that fails.
@@ -86,6 +88,7 @@ public final class EitherParser<C, U, V> implements ArgumentParser.FutureArgumen
 
     private final ParserDescriptor<C, U> primary;
     private final ParserDescriptor<C, V> fallback;
+    private final boolean synchronous;
 
     /**
      * Creates a new either parser.
@@ -96,6 +99,8 @@ public final class EitherParser<C, U, V> implements ArgumentParser.FutureArgumen
     public EitherParser(final @NonNull ParserDescriptor<C, U> primary, final @NonNull ParserDescriptor<C, V> fallback) {
         this.primary = Objects.requireNonNull(primary, "primary");
         this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.synchronous = SynchronousParsers.isSynchronous(primary.parser())
+                && SynchronousParsers.isSynchronous(fallback.parser());
     }
 
     /**
@@ -121,6 +126,14 @@ public final class EitherParser<C, U, V> implements ArgumentParser.FutureArgumen
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
+        if (this.synchronous) {
+            try {
+                return CompletableFuture.completedFuture(this.parseSynchronously(commandContext, commandInput));
+            } catch (final RuntimeException e) {
+                return CompletableFutures.failedFuture(e);
+            }
+        }
+
         final String input = commandInput.peekString();
         final int originalCursor = commandInput.cursor();
 
@@ -151,6 +164,37 @@ public final class EitherParser<C, U, V> implements ArgumentParser.FutureArgumen
         });
     }
 
+    private @NonNull ArgumentParseResult<Either<U, V>> parseSynchronously(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        final int originalCursor = commandInput.cursor();
+        final ArgumentParseResult<U> primaryResult = this.primary.parser().parse(commandContext, commandInput);
+        if (primaryResult.parsedValue().isPresent()) {
+            return ArgumentParseResult.success(Either.ofPrimary(primaryResult.parsedValue().get()));
+        }
+
+        commandInput.cursor(originalCursor);
+        final ArgumentParseResult<V> fallbackResult = this.fallback.parser().parse(commandContext, commandInput);
+        if (fallbackResult.parsedValue().isPresent()) {
+            return ArgumentParseResult.success(Either.ofFallback(fallbackResult.parsedValue().get()));
+        }
+
+        // The input is only needed for the error message, so it is not read until both parsers have failed.
+        final int failedCursor = commandInput.cursor();
+        commandInput.cursor(originalCursor);
+        final String input = commandInput.peekString();
+        commandInput.cursor(failedCursor);
+        return ArgumentParseResult.failure(new EitherParseException(
+                primaryResult.failure().get(),
+                fallbackResult.failure().get(),
+                this.primary.valueType(),
+                this.fallback.valueType(),
+                commandContext,
+                input
+        ));
+    }
+
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public @NonNull CompletableFuture<? extends @NonNull Iterable<? extends @NonNull Suggestion>> suggestionsFuture(
@@ -202,9 +246,11 @@ public final class EitherParser<C, U, V> implements ArgumentParser.FutureArgumen
                     EitherParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_EITHER,
-                    CaptionVariable.of("input", input),
-                    CaptionVariable.of("primary", GenericTypeReflector.erase(primaryType.getType()).getSimpleName()),
-                    CaptionVariable.of("fallback", GenericTypeReflector.erase(fallbackType.getType()).getSimpleName())
+                    () -> new CaptionVariable[]{
+                            CaptionVariable.of("input", input),
+                            CaptionVariable.of("primary", GenericTypeReflector.erase(primaryType.getType()).getSimpleName()),
+                            CaptionVariable.of("fallback", GenericTypeReflector.erase(fallbackType.getType()).getSimpleName())
+                    }
             );
             this.primaryFailure = primaryFailure;
             this.fallbackFailure = fallbackFailure;
@@ -23,14 +23,20 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.StringJoiner;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.caption.StandardCaptionKeys;
 import org.incendo.cloud.component.CommandComponent;
@@ -41,10 +47,11 @@ import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
 
 @API(status = API.Status.STABLE)
 public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C, E>,
-        BlockingSuggestionProvider.Strings<C> {
+        BlockingSuggestionProvider.Strings<C>, ArgumentParser.Stateless {
 
     /**
      * Creates a new enum parser.
@@ -74,8 +81,19 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
         return CommandComponent.<C, E>builder().parser(enumParser(enumClass));
     }
 
+    /**
+     * Lookup tables that are computed once per enum class and shared by all parsers of that class.
+     */
+    private static final ClassValue<EnumValues<?>> ENUM_VALUES = new ClassValue<EnumValues<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumValues<?> computeValue(final Class<?> type) {
+            return new EnumValues((Class) type);
+        }
+    };
+
     private final Class<E> enumClass;
-    private final EnumSet<E> acceptedValues;
+    private final EnumValues<E> values;
 
     /**
      * Construct a new enum parser
@@ -84,7 +102,12 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
      */
     public EnumParser(final @NonNull Class<E> enumClass) {
         this.enumClass = enumClass;
-        this.acceptedValues = EnumSet.allOf(enumClass);
+        this.values = values(enumClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> @NonNull EnumValues<E> values(final @NonNull Class<E> enumClass) {
+        return (EnumValues<E>) ENUM_VALUES.get(enumClass);
     }
 
     /**
@@ -102,7 +125,7 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
      * @return the accepted values
      */
     public @NonNull Collection<@NonNull E> acceptedValues() {
-        return Collections.unmodifiableSet(this.acceptedValues);
+        return this.values.acceptedValues;
     }
 
     @Override
@@ -112,10 +135,9 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
     ) {
         final String input = commandInput.readString();
 
-        for (final E value : this.acceptedValues) {
-            if (value.name().equalsIgnoreCase(input)) {
-                return ArgumentParseResult.success(value);
-            }
+        final E value = this.values.lookup(input);
+        if (value != null) {
+            return ArgumentParseResult.success(value);
         }
 
         return ArgumentParseResult.failure(new EnumParseException(input, this.enumClass, commandContext));
@@ -124,7 +146,74 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
     @Override
     public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
                                                                 final @NonNull CommandInput input) {
-        return EnumSet.allOf(this.enumClass).stream().map(e -> e.name().toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+        return this.values.stringSuggestions;
+    }
+
+    @Override
+    public @NonNull Iterable<@NonNull Suggestion> suggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        return this.values.suggestions;
+    }
+
+
+    private static final class EnumValues<E extends Enum<E>> {
+
+        private final Set<E> acceptedValues;
+        private final Map<String, E> lookup;
+        private final List<String> stringSuggestions;
+        private final List<Suggestion> suggestions;
+        private final String joined;
+        private final boolean asciiNames;
+
+        private EnumValues(final @NonNull Class<E> enumClass) {
+            final EnumSet<E> values = EnumSet.allOf(enumClass);
+            this.acceptedValues = Collections.unmodifiableSet(values);
+
+            final Map<String, E> lookup = new HashMap<>();
+            final List<String> stringSuggestions = new ArrayList<>(values.size());
+            final List<Suggestion> suggestions = new ArrayList<>(values.size());
+            final StringJoiner joiner = new StringJoiner(", ");
+            boolean asciiNames = true;
+            for (final E value : values) {
+                asciiNames &= isAscii(value.name());
+                final String name = value.name().toLowerCase(Locale.ROOT);
+                // Constants that only differ by case resolve to the first one, like the linear search did
+                lookup.putIfAbsent(name, value);
+                stringSuggestions.add(name);
+                suggestions.add(Suggestion.suggestion(name));
+                joiner.add(value.toString().toLowerCase(Locale.ROOT));
+            }
+            this.lookup = lookup;
+            this.stringSuggestions = Collections.unmodifiableList(stringSuggestions);
+            this.suggestions = Collections.unmodifiableList(suggestions);
+            this.joined = joiner.toString();
+            this.asciiNames = asciiNames;
+        }
+
+        private @Nullable E lookup(final @NonNull String input) {
+            final E value = this.lookup.get(input.toLowerCase(Locale.ROOT));
+            if (value != null || (this.asciiNames && isAscii(input))) {
+                return value;
+            }
+            // Lower-casing a whole string differs from equalsIgnoreCase for some non-ASCII characters
+            for (final E candidate : this.acceptedValues) {
+                if (candidate.name().equalsIgnoreCase(input)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAscii(final @NonNull String input) {
+            for (int i = 0; i < input.length(); i++) {
+                if (input.charAt(i) > 0x7F) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
 
@@ -150,19 +239,17 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
                     EnumParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_ENUM,
-                    CaptionVariable.of("input", input),
-                    CaptionVariable.of("acceptableValues", join(enumClass))
+                    () -> new CaptionVariable[]{
+                            CaptionVariable.of("input", input),
+                            CaptionVariable.of("acceptableValues", join(enumClass))
+                    }
             );
             this.input = input;
             this.enumClass = enumClass;
         }
 
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        private static @NonNull String join(final @NonNull Class<? extends Enum> clazz) {
-            final EnumSet<?> enumSet = EnumSet.allOf(clazz);
-            return enumSet.stream()
-                    .map(e -> e.toString().toLowerCase(Locale.ROOT))
-                    .collect(Collectors.joining(", "));
+        private static @NonNull String join(final @NonNull Class<? extends Enum<?>> clazz) {
+            return ENUM_VALUES.get(clazz).joined;
         }
 
         /**
@@ -30,12 +30,13 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.NumberParseException;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.type.range.FloatRange;
 import org.incendo.cloud.type.range.Range;
 
 @API(status = API.Status.STABLE)
-public final class FloatParser<C> extends NumberParser<C, Float, FloatRange> {
+public final class FloatParser<C> extends NumberParser<C, Float, FloatRange> implements ArgumentParser.Stateless {
 
     /**
      * Constant for the default/unset minimum value.
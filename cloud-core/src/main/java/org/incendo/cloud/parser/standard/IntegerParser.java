@@ -23,11 +23,8 @@
 //
 package org.incendo.cloud.parser.standard;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
@@ -35,13 +32,15 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.NumberParseException;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 import org.incendo.cloud.type.range.IntRange;
 import org.incendo.cloud.type.range.Range;
 
 @API(status = API.Status.STABLE)
-public final class IntegerParser<C> extends NumberParser<C, Integer, IntRange> implements BlockingSuggestionProvider.Strings<C> {
+public final class IntegerParser<C> extends NumberParser<C, Integer, IntRange> implements BlockingSuggestionProvider.Strings<C>,
+        ArgumentParser.Stateless {
 
     /**
      * Constant for the default/unset minimum value.
@@ -57,9 +56,6 @@ public final class IntegerParser<C> extends NumberParser<C, Integer, IntRange> i
     @API(status = API.Status.STABLE)
     public static final int DEFAULT_MAXIMUM = Integer.MAX_VALUE;
 
-    private static final int MAX_SUGGESTIONS_INCREMENT = 10;
-    private static final int NUMBER_SHIFT_MULTIPLIER = 10;
-
     /**
      * Creates a new integer parser using {@link IntegerParser#DEFAULT_MINIMUM} and {@link IntegerParser#DEFAULT_MAXIMUM} as
      * the limits.
@@ -130,42 +126,13 @@ public final class IntegerParser<C> extends NumberParser<C, Integer, IntRange> i
      * @param input input
      * @return list of suggestions
      */
-    @SuppressWarnings("MixedMutabilityReturnType")
     public static @NonNull List<@NonNull String> getSuggestions(
             final @NonNull Range<? extends Number> range,
             final @NonNull CommandInput input
     ) {
-        final Set<Long> numbers = new TreeSet<>();
-        final String token = input.peekString();
-
-        try {
-            final long inputNum = Long.parseLong(token.equals("-") ? "-0" : token.isEmpty() ? "0" : token);
-            final long inputNumAbsolute = Math.abs(inputNum);
-
-            final long min = range.min().longValue();
-            final long max = range.max().longValue();
-
-            numbers.add(inputNumAbsolute); /* It's a valid number, so we suggest it */
-            for (int i = 0; i < MAX_SUGGESTIONS_INCREMENT
-                    && (inputNum * NUMBER_SHIFT_MULTIPLIER) + i <= max; i++) {
-                numbers.add((inputNumAbsolute * NUMBER_SHIFT_MULTIPLIER) + i);
-            }
-
-            final List<String> suggestions = new LinkedList<>();
-            for (long number : numbers) {
-                if (token.startsWith("-")) {
-                    number = -number; /* Preserve sign */
-                }
-                if (number < min || number > max) {
-                    continue;
-                }
-                suggestions.add(String.valueOf(number));
-            }
-
-            return suggestions;
-        } catch (final Exception ignored) {
-            return Collections.emptyList();
-        }
+        final List<String> suggestions = new ArrayList<>();
+        NumberSuggestions.of(range, input.peekString()).forEach(suggestions::add);
+        return suggestions;
     }
 
     @Override
@@ -198,7 +165,7 @@ public final class IntegerParser<C> extends NumberParser<C, Integer, IntRange> i
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return getSuggestions(this.range(), input);
+        return this.integerSuggestions(input);
     }
 
 
@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.TreeSet;
 import org.apiguardian.api.API;
@@ -61,14 +62,21 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
 
     private final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
     private final Set<String> alternativeAliases = new HashSet<>();
+    /**
+     * Lower-cased aliases, used to look up the input in constant time.
+     */
+    private final Set<String> foldedAliases = new HashSet<>();
+    private boolean asciiAliases = true;
 
     private final String name;
 
     private LiteralParser(final @NonNull String name, final @NonNull String... aliases) {
         validateNames(name, aliases);
         this.name = name;
-        this.allAcceptedAliases.add(this.name);
-        this.allAcceptedAliases.addAll(Arrays.asList(aliases));
+        this.addAlias(this.name);
+        for (final String alias : aliases) {
+            this.addAlias(alias);
+        }
         this.alternativeAliases.addAll(Arrays.asList(aliases));
     }
 
@@ -78,11 +86,38 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
             final @NonNull CommandInput commandInput
     ) {
         final String string = commandInput.peekString();
-        if (this.allAcceptedAliases.contains(string)) {
+        if (this.accepts(string)) {
             commandInput.readString();
             return ArgumentParseResult.success(this.name);
         }
-        return ArgumentParseResult.failure(new IllegalArgumentException(string));
+        // Literals are parsed speculatively, so mismatches are expected and should be cheap
+        return ArgumentParseResult.failure(new LiteralParseException(string));
+    }
+
+    private boolean accepts(final @NonNull String string) {
+        if (this.foldedAliases.contains(string.toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        if (this.asciiAliases && isAscii(string)) {
+            return false;
+        }
+        // Lower-casing a whole string differs from the case-insensitive comparison for some non-ASCII characters
+        return this.allAcceptedAliases.contains(string);
+    }
+
+    private void addAlias(final @NonNull String alias) {
+        this.allAcceptedAliases.add(alias);
+        this.foldedAliases.add(alias.toLowerCase(Locale.ROOT));
+        this.asciiAliases &= isAscii(alias);
+    }
+
+    private static boolean isAscii(final @NonNull String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -124,7 +159,7 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
      */
     public void insertAlias(final @NonNull String alias) {
         validateNames("valid", new String[]{alias});
-        this.allAcceptedAliases.add(alias);
+        this.addAlias(alias);
         this.alternativeAliases.add(alias);
     }
 
@@ -154,4 +189,23 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
         }
         return errors;
     }
+
+
+    /**
+     * Failure of a literal that did not match the input. The stack trace is not filled in, as literal mismatches are a
+     * regular part of parsing and suggesting.
+     */
+    private static final class LiteralParseException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        private LiteralParseException(final @NonNull String input) {
+            super(input);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
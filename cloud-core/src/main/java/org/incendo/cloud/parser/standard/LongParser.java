@@ -30,13 +30,15 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.parsing.NumberParseException;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 import org.incendo.cloud.type.range.LongRange;
 import org.incendo.cloud.type.range.Range;
 
 @API(status = API.Status.STABLE)
-public final class LongParser<C> extends NumberParser<C, Long, LongRange> implements BlockingSuggestionProvider.Strings<C> {
+public final class LongParser<C> extends NumberParser<C, Long, LongRange> implements BlockingSuggestionProvider.Strings<C>,
+        ArgumentParser.Stateless {
 
     /**
      * Constant for the default/unset minimum value.
@@ -145,7 +147,7 @@ public final class LongParser<C> extends NumberParser<C, Long, LongRange> implem
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return IntegerParser.getSuggestions(this.range(), input);
+        return this.integerSuggestions(input);
     }
 
 
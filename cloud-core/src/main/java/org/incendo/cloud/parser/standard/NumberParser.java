@@ -26,6 +26,7 @@ package org.incendo.cloud.parser.standard;
 import java.util.Objects;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.type.range.Range;
 
@@ -66,4 +67,18 @@ public abstract class NumberParser<C, N extends Number, R extends Range<N>> impl
      * @return whether the parser has a minimum set
      */
     public abstract boolean hasMin();
+
+    /**
+     * Returns integer suggestions for the given {@code input} that lie within the {@link #range()} of this parser.
+     *
+     * <p>The suggestions are the number that has been typed so far, followed by the numbers formed by appending another
+     * digit to it. They are generated lazily while iterating, and are empty if the input is not an integer.</p>
+     *
+     * @param input the input
+     * @return the suggestions
+     */
+    @API(status = API.Status.STABLE)
+    protected final @NonNull Iterable<@NonNull String> integerSuggestions(final @NonNull CommandInput input) {
+        return NumberSuggestions.of(this.range, input.peekString());
+    }
 }
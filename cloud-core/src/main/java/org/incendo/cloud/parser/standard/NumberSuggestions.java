@@ -0,0 +1,141 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.standard;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.type.range.Range;
+
+/**
+ * Lazily generated suggestions for integral number parsers.
+ *
+ * <p>The suggestions consist of the number that has been typed so far, followed by the numbers that are formed by
+ * appending another digit to it, in ascending order of their absolute value. Suggestions outside of the range are
+ * skipped. The candidates are computed while iterating, so no intermediate collections are created.</p>
+ */
+final class NumberSuggestions implements Iterable<String> {
+
+    private static final int MAX_SUGGESTIONS_INCREMENT = 10;
+    private static final int NUMBER_SHIFT_MULTIPLIER = 10;
+
+    private final long min;
+    private final long max;
+    private final long absolute;
+    private final boolean negative;
+
+    private NumberSuggestions(final long min, final long max, final long absolute, final boolean negative) {
+        this.min = min;
+        this.max = max;
+        this.absolute = absolute;
+        this.negative = negative;
+    }
+
+    /**
+     * Returns the suggestions for the given {@code token}.
+     *
+     * @param range accepted range
+     * @param token the token that has been typed so far
+     * @return the suggestions, which are empty if the token is not an integer
+     */
+    static @NonNull Iterable<@NonNull String> of(final @NonNull Range<? extends Number> range, final @NonNull String token) {
+        final boolean negative = !token.isEmpty() && token.charAt(0) == '-';
+        final int start = negative || (!token.isEmpty() && token.charAt(0) == '+') ? 1 : 0;
+        if (start == 1 && token.length() == 1 && !negative) {
+            return Collections.emptyList();
+        }
+        long absolute = 0;
+        for (int i = start; i < token.length(); i++) {
+            final int digit = Character.digit(token.charAt(i), 10);
+            if (digit < 0 || absolute > (Long.MAX_VALUE - digit) / NUMBER_SHIFT_MULTIPLIER) {
+                return Collections.emptyList();
+            }
+            absolute = absolute * NUMBER_SHIFT_MULTIPLIER + digit;
+        }
+        return new NumberSuggestions(range.min().longValue(), range.max().longValue(), absolute, negative);
+    }
+
+    @Override
+    public @NonNull Iterator<@NonNull String> iterator() {
+        return new SuggestionIterator();
+    }
+
+
+    private final class SuggestionIterator implements Iterator<String> {
+
+        /**
+         * The index of the next candidate, where {@code -1} is the typed number and {@code 0-9} are the appended digits.
+         */
+        private int candidate = -1;
+        private boolean computed;
+        private long next;
+
+        @Override
+        public boolean hasNext() {
+            if (!this.computed) {
+                this.computed = this.computeNext();
+            }
+            return this.computed;
+        }
+
+        @Override
+        public @NonNull String next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.computed = false;
+            return Long.toString(this.next);
+        }
+
+        private boolean computeNext() {
+            final NumberSuggestions suggestions = NumberSuggestions.this;
+            final long signed = suggestions.negative ? -suggestions.absolute : suggestions.absolute;
+            final boolean canShift = suggestions.absolute <= (Long.MAX_VALUE - MAX_SUGGESTIONS_INCREMENT) / NUMBER_SHIFT_MULTIPLIER;
+            while (this.candidate < MAX_SUGGESTIONS_INCREMENT) {
+                final int index = this.candidate++;
+                final long absolute;
+                if (index < 0) {
+                    absolute = suggestions.absolute;
+                } else {
+                    // Candidates grow with the index, so the remaining ones are all too large once one exceeds the max.
+                    if (!canShift || signed * NUMBER_SHIFT_MULTIPLIER + index > suggestions.max) {
+                        this.candidate = MAX_SUGGESTIONS_INCREMENT;
+                        return false;
+                    }
+                    absolute = suggestions.absolute * NUMBER_SHIFT_MULTIPLIER + index;
+                    if (absolute == suggestions.absolute) {
+                        continue;
+                    }
+                }
+                final long number = suggestions.negative ? -absolute : absolute;
+                if (number >= suggestions.min && number <= suggestions.max) {
+                    this.next = number;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -25,7 +25,6 @@ package org.incendo.cloud.parser.standard;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
@@ -34,6 +33,7 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.util.StringUtils;
 
 /**
  * Parser that parses input into a string array
@@ -41,9 +41,7 @@ import org.incendo.cloud.parser.ParserDescriptor;
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
-public final class StringArrayParser<C> implements ArgumentParser<C, String[]> {
-
-    private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
+public final class StringArrayParser<C> implements ArgumentParser<C, String[]>, ArgumentParser.Stateless {
 
     /**
      * Creates a new character parser.
@@ -109,7 +107,7 @@ public final class StringArrayParser<C> implements ArgumentParser<C, String[]> {
 
             for (int i = 0; i < size; i++) {
                 final String string = commandInput.peekString();
-                if (string.isEmpty() || FLAG_PATTERN.matcher(string).matches()) {
+                if (string.isEmpty() || StringUtils.isPotentialFlag(string)) {
                     break;
                 }
                 result.add(commandInput.readString());
@@ -24,8 +24,6 @@
 package org.incendo.cloud.parser.standard;
 
 import java.util.StringJoiner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.caption.CaptionVariable;
@@ -41,11 +39,7 @@ import org.incendo.cloud.util.StringUtils;
 
 @SuppressWarnings("UnnecessaryLambda")
 @API(status = API.Status.STABLE)
-public final class StringParser<C> implements ArgumentParser<C, String> {
-
-    private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
-    private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
-    private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
+public final class StringParser<C> implements ArgumentParser<C, String>, ArgumentParser.Stateless {
 
     /**
      * Creates a new string parser using the given {@code mode}.
@@ -166,26 +160,19 @@ public final class StringParser<C> implements ArgumentParser<C, String> {
 
         final String string = commandInput.remainingInput();
 
-        final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
-        String doubleMatch = null;
-        if (doubleMatcher.find()) {
-            doubleMatch = doubleMatcher.group("inner");
-        }
-        final Matcher singleMatcher = QUOTED_SINGLE.matcher(string);
-        String singleMatch = null;
-        if (singleMatcher.find()) {
-            singleMatch = singleMatcher.group("inner");
+        // The quoted string that starts first is used. The input starts with the peeked quote, so if that one is
+        // terminated then there's no need to look for the other kind.
+        int start = StringUtils.findQuoted(string, peek);
+        if (start != 0) {
+            final int otherStart = StringUtils.findQuoted(string, peek == '"' ? '\'' : '"');
+            if (start == -1 || (otherStart != -1 && otherStart < start)) {
+                start = otherStart;
+            }
         }
 
         String inner = null;
-        if (singleMatch != null && doubleMatch != null) {
-            final int singleIndex = string.indexOf(singleMatch);
-            final int doubleIndex = string.indexOf(doubleMatch);
-            inner = doubleIndex < singleIndex ? doubleMatch : singleMatch;
-        } else if (singleMatch == null && doubleMatch != null) {
-            inner = doubleMatch;
-        } else if (singleMatch != null) {
-            inner = singleMatch;
+        if (start != -1) {
+            inner = string.substring(start + 1, StringUtils.closingQuote(string, start));
         }
 
         if (inner != null) {
@@ -224,8 +211,7 @@ public final class StringParser<C> implements ArgumentParser<C, String> {
             }
 
             if (this.stringMode == StringMode.GREEDY_FLAG_YIELDING) {
-                // The pattern requires a leading space.
-                if (FLAG_PATTERN.matcher(string).matches()) {
+                if (StringUtils.isPotentialFlag(string)) {
                     break;
                 }
             }
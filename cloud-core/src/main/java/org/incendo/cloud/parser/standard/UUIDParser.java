@@ -27,6 +27,7 @@ import java.util.Objects;
 import java.util.UUID;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.caption.StandardCaptionKeys;
 import org.incendo.cloud.component.CommandComponent;
@@ -38,7 +39,7 @@ import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 
 @API(status = API.Status.STABLE)
-public final class UUIDParser<C> implements ArgumentParser<C, UUID> {
+public final class UUIDParser<C> implements ArgumentParser<C, UUID>, ArgumentParser.Stateless {
 
     /**
      * Creates a new UUID parser.
@@ -68,13 +69,55 @@ public final class UUIDParser<C> implements ArgumentParser<C, UUID> {
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
-
-        try {
-            final UUID uuid = UUID.fromString(input);
-            return ArgumentParseResult.success(uuid);
-        } catch (IllegalArgumentException e) {
+        final UUID uuid = parseUUID(input);
+        if (uuid == null) {
             return ArgumentParseResult.failure(new UUIDParseException(input, commandContext));
         }
+        return ArgumentParseResult.success(uuid);
+    }
+
+    /**
+     * Parses a UUID in its canonical form of 32 hexadecimal digits in groups of 8-4-4-4-12 separated by hyphens.
+     *
+     * @param input the input
+     * @return the UUID, or {@code null} if the input is not a canonical UUID
+     */
+    private static @Nullable UUID parseUUID(final @NonNull String input) {
+        if (input.length() != 36
+                || input.charAt(8) != '-'
+                || input.charAt(13) != '-'
+                || input.charAt(18) != '-'
+                || input.charAt(23) != '-') {
+            return null;
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            final int digit = hexDigit(input.charAt(i));
+            if (digit == -1) {
+                return null;
+            }
+            if (i < 18) {
+                mostSignificantBits = (mostSignificantBits << 4) | digit;
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | digit;
+            }
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
     }
 
 
@@ -61,5 +61,24 @@ public enum ManagerSetting implements Setting {
      * and code inspecting the command tree may need to be adjusted.
      */
     @API(status = API.Status.EXPERIMENTAL)
-    LIBERAL_FLAG_PARSING
+    LIBERAL_FLAG_PARSING,
+
+    /**
+     * Reuses the arguments that were parsed during the previous suggestion request of the same sender, as long as the new
+     * input still starts with the parsed input. This avoids running argument parsers again on every keystroke.
+     * <p>
+     * Parse results are only reused for a few seconds. Parsers whose result depends on more than the input they consume,
+     * such as parsers that look at input following the argument, should not be used with this setting
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    INCREMENTAL_SUGGESTIONS,
+
+    /**
+     * Skips capturing the stack trace of {@link org.incendo.cloud.exception.parsing.ParserException parser exceptions}.
+     * <p>
+     * Parser exceptions describe invalid input rather than programming errors, and most of them are discarded without
+     * being shown, for example while computing suggestions. Their stack traces are rarely useful and are costly to capture
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    STACKLESS_PARSER_EXCEPTIONS
 }
@@ -0,0 +1,364 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.common.returnsreceiver.qual.This;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.ResultCache;
+
+/**
+ * {@link SuggestionProvider} that caches the results of a delegate provider.
+ *
+ * <p>Results are stored in a bounded least-recently-used cache keyed by the sender scope and the remaining input that was
+ * passed to the provider. As a provider is attached to a single command component, the cache is local to the node that
+ * owns the component. This is intended for providers whose results rarely change, such as lists of worlds or
+ * enum constants.</p>
+ *
+ * <p>Concurrent lookups for the same key share a single invocation of the delegate. Failed lookups are neither cached
+ * nor shared.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CachingSuggestionProvider<C> implements SuggestionProvider<C> {
+
+    private static final Object GLOBAL_SCOPE = new Object();
+
+    private final SuggestionProvider<C> delegate;
+    private final Function<@NonNull CommandContext<C>, ?> scope;
+    private final long expireAfterWriteNanos;
+    private final ResultCache<ResultCache.Key, List<Suggestion>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CachingSuggestionProvider(
+            final @NonNull SuggestionProvider<C> delegate,
+            final @NonNull Function<@NonNull CommandContext<C>, ?> scope,
+            final @Nullable Duration expireAfterWrite,
+            final int maximumSize,
+            final @NonNull LongSupplier ticker
+    ) {
+        this.delegate = delegate;
+        this.scope = scope;
+        this.expireAfterWriteNanos = expireAfterWrite == null ? -1L : expireAfterWrite.toNanos();
+        this.cache = new ResultCache<>(maximumSize, ticker);
+    }
+
+    /**
+     * Returns a new {@link Builder} that caches the results of the given {@code delegate}.
+     *
+     * @param <C>      command sender type
+     * @param delegate the provider to cache results from
+     * @return the builder
+     */
+    public static <C> @NonNull Builder<C> builder(final @NonNull SuggestionProvider<C> delegate) {
+        return new Builder<>(Objects.requireNonNull(delegate, "delegate"));
+    }
+
+    /**
+     * Returns a provider that caches the results of the given {@code delegate} for all senders, expiring entries once
+     * {@code expireAfterWrite} has passed since they were computed.
+     *
+     * @param <C>              command sender type
+     * @param delegate         the provider to cache results from
+     * @param expireAfterWrite how long cached results remain valid
+     * @return the caching provider
+     */
+    public static <C> @NonNull CachingSuggestionProvider<C> of(
+            final @NonNull SuggestionProvider<C> delegate,
+            final @NonNull Duration expireAfterWrite
+    ) {
+        return builder(delegate).expireAfterWrite(expireAfterWrite).build();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull List<@NonNull Suggestion>> suggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        final ResultCache.Key key = new ResultCache.Key(this.scope.apply(context), input.remainingInput());
+        final List<Suggestion> cached = this.cache.get(key);
+        if (cached != null) {
+            this.hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final CompletableFuture<@Nullable List<Suggestion>> pending = new CompletableFuture<>();
+        final CompletableFuture<@Nullable List<Suggestion>> existing = this.cache.join(key, pending);
+        if (existing != null) {
+            this.hits.increment();
+            return existing.thenCompose(suggestions -> {
+                if (suggestions == null) {
+                    return this.delegate.suggestionsFuture(context, input).thenApply(CachingSuggestionProvider::copy);
+                }
+                return CompletableFuture.completedFuture(suggestions);
+            });
+        }
+
+        this.misses.increment();
+        final CompletableFuture<? extends Iterable<? extends Suggestion>> result;
+        try {
+            result = this.delegate.suggestionsFuture(context, input);
+        } catch (final RuntimeException e) {
+            this.cache.complete(key, pending, null, 0L);
+            throw e;
+        }
+        final CompletableFuture<List<Suggestion>> future = new CompletableFuture<>();
+        result.whenComplete((suggestions, throwable) -> {
+            if (throwable != null) {
+                this.cache.complete(key, pending, null, 0L);
+                future.completeExceptionally(throwable);
+                return;
+            }
+            final List<Suggestion> copy = copy(suggestions);
+            this.cache.complete(key, pending, copy, this.expireAfterWriteNanos);
+            future.complete(copy);
+        });
+        return future;
+    }
+
+    private static @NonNull List<@NonNull Suggestion> copy(final @NonNull Iterable<? extends @NonNull Suggestion> suggestions) {
+        final List<Suggestion> copy = new ArrayList<>();
+        suggestions.forEach(copy::add);
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Returns the provider that this provider caches results from.
+     *
+     * @return the delegate provider
+     */
+    public @NonNull SuggestionProvider<C> delegate() {
+        return this.delegate;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of results that are currently cached.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public @NonNull Statistics statistics() {
+        return new Statistics(this.hits.sum(), this.misses.sum(), this.cache.evictionCount());
+    }
+
+    /**
+     * Snapshot of the statistics of a {@link CachingSuggestionProvider}.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Statistics {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        private Statistics(final long hitCount, final long missCount, final long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Returns the number of lookups that were served from the cache.
+         *
+         * @return the hit count
+         */
+        public long hitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * Returns the number of lookups that were forwarded to the delegate provider.
+         *
+         * @return the miss count
+         */
+        public long missCount() {
+            return this.missCount;
+        }
+
+        /**
+         * Returns the number of results that were evicted because the cache was full.
+         *
+         * @return the eviction count
+         */
+        public long evictionCount() {
+            return this.evictionCount;
+        }
+
+        /**
+         * Returns the total number of lookups.
+         *
+         * @return the request count
+         */
+        public long requestCount() {
+            return this.hitCount + this.missCount;
+        }
+
+        /**
+         * Returns the ratio of lookups that were served from the cache, or {@code 1} if no lookups have been made.
+         *
+         * @return the hit rate
+         */
+        public double hitRate() {
+            final long requestCount = this.requestCount();
+            return requestCount == 0 ? 1.0D : (double) this.hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{hitCount=" + this.hitCount
+                    + ", missCount=" + this.missCount
+                    + ", evictionCount=" + this.evictionCount
+                    + ", hitRate=" + this.hitRate() + '}';
+        }
+    }
+
+
+    /**
+     * Builder for {@link CachingSuggestionProvider}.
+     *
+     * @param <C> command sender type
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static final class Builder<C> {
+
+        private final SuggestionProvider<C> delegate;
+        private Function<@NonNull CommandContext<C>, ?> scope = context -> GLOBAL_SCOPE;
+        private @Nullable Duration expireAfterWrite = null;
+        private int maximumSize = 128;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(final @NonNull SuggestionProvider<C> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Sets how long cached results remain valid after they have been computed. By default, results never expire and
+         * are only removed once the cache is full.
+         *
+         * @param expireAfterWrite the time to live of a cached result
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> expireAfterWrite(final @NonNull Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "expireAfterWrite");
+            if (expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("expireAfterWrite cannot be negative");
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of results to cache. Once exceeded, the least recently used result is evicted.
+         *
+         * @param maximumSize the maximum cache size
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> maximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the function that determines the scope in which results are shared. Results are only shared between lookups
+         * that map to {@link Object#equals(Object) equal} scopes.
+         *
+         * <p>By default all senders share the same results. Providers whose results depend on previously parsed
+         * arguments should include these values in the scope.</p>
+         *
+         * @param scope the scope function
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> scope(final @NonNull Function<@NonNull CommandContext<C>, ?> scope) {
+            this.scope = Objects.requireNonNull(scope, "scope");
+            return this;
+        }
+
+        /**
+         * Makes the cached results local to each {@link CommandContext#sender() sender}.
+         *
+         * @return this builder
+         */
+        public @This @NonNull Builder<C> senderScoped() {
+            return this.scope(CommandContext::sender);
+        }
+
+        /**
+         * Sets the source of the current time in nanoseconds.
+         *
+         * @param ticker the time source
+         * @return this builder
+         */
+        @This @NonNull Builder<C> ticker(final @NonNull LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker");
+            return this;
+        }
+
+        /**
+         * Creates a new {@link CachingSuggestionProvider} from the current state of this builder.
+         *
+         * @return the caching provider
+         */
+        public @NonNull CachingSuggestionProvider<C> build() {
+            return new CachingSuggestionProvider<>(
+                    this.delegate,
+                    this.scope,
+                    this.expireAfterWrite,
+                    this.maximumSize,
+                    this.ticker
+            );
+        }
+    }
+}
@@ -23,7 +23,6 @@
 //
 package org.incendo.cloud.suggestion;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -40,6 +39,9 @@ import org.incendo.cloud.internal.CommandInputTokenizer;
  * Command suggestion processor filters suggestions based on the remaining unconsumed input in the
  * queue.
  *
+ * <p>The filter is {@link Filter#compile(CommandPreprocessingContext, String) compiled} once per suggestion request,
+ * which allows the built-in filters to prepare the input once rather than once per suggestion.</p>
+ *
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
@@ -77,15 +79,31 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
         } else {
             input = context.commandInput().skipWhitespace().remainingInput();
         }
+        final Filter.Compiled compiled = this.filter.compile(context, input);
         return suggestions.map(suggestion -> {
-            final String filtered = this.filter.filter(context, suggestion.suggestion(), input);
+            final String filtered = compiled.filter(suggestion);
             if (filtered == null) {
                 return null;
+            } else if (filtered == suggestion.suggestion()) {
+                return suggestion;
             }
             return suggestion.withSuggestion(filtered);
         }).filter(Objects::nonNull);
     }
 
+    /**
+     * Returns the suggestion string converted to lower case, reusing the cached form of a {@link SimpleSuggestion}.
+     *
+     * @param suggestion the suggestion
+     * @return the case-folded suggestion string
+     */
+    private static @NonNull String fold(final @NonNull Suggestion suggestion) {
+        if (suggestion instanceof SimpleSuggestion) {
+            return ((SimpleSuggestion) suggestion).foldedSuggestion();
+        }
+        return suggestion.suggestion().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Filter function that tests (and potentially changes) each suggestion against the input and context.
      *
@@ -110,6 +128,25 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
                 @NonNull String input
         );
 
+        /**
+         * Returns a {@link Compiled} version of this filter, that filters suggestions against the given {@code input}.
+         *
+         * <p>This is invoked once per suggestion request, and the returned filter is then used for all the suggestions of
+         * that request. Implementations may override this to prepare the input up front. The default implementation
+         * delegates to {@link #filter(CommandPreprocessingContext, String, String)}.</p>
+         *
+         * @param context context
+         * @param input   remaining unconsumed input
+         * @return the compiled filter
+         */
+        @API(status = API.Status.STABLE)
+        default @NonNull Compiled compile(
+                final @NonNull CommandPreprocessingContext<C> context,
+                final @NonNull String input
+        ) {
+            return suggestion -> this.filter(context, suggestion.suggestion(), input);
+        }
+
         /**
          * Returns a new {@link Filter} which tests this filter, and if the result
          * is non-null, then filters with {@code and}.
@@ -119,13 +156,7 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
          */
         @API(status = API.Status.STABLE)
         default @NonNull Filter<C> and(final @NonNull Filter<C> and) {
-            return (ctx, suggestion, input) -> {
-                final @Nullable String filtered = this.filter(ctx, suggestion, input);
-                if (filtered == null) {
-                    return null;
-                }
-                return and.filter(ctx, filtered, input);
-            };
+            return new AndFilter<>(this, and);
         }
 
         /**
@@ -137,10 +168,7 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
          */
         @API(status = API.Status.STABLE)
         static <C> @NonNull Simple<C> startsWith(final boolean ignoreCase) {
-            final BiPredicate<String, String> test = ignoreCase
-                    ? (suggestion, input) -> suggestion.toLowerCase(Locale.ROOT).startsWith(input.toLowerCase(Locale.ROOT))
-                    : String::startsWith;
-            return Simple.contextFree(test);
+            return new StandardFilter<>(StandardFilter.Mode.STARTS_WITH, ignoreCase);
         }
 
         /**
@@ -152,10 +180,7 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
          */
         @API(status = API.Status.STABLE)
         static <C> @NonNull Simple<C> contains(final boolean ignoreCase) {
-            final BiPredicate<String, String> test = ignoreCase
-                    ? (suggestion, input) -> suggestion.toLowerCase(Locale.ROOT).contains(input.toLowerCase(Locale.ROOT))
-                    : String::contains;
-            return Simple.contextFree(test);
+            return new StandardFilter<>(StandardFilter.Mode.CONTAINS, ignoreCase);
         }
 
         /**
@@ -168,38 +193,7 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
          */
         @API(status = API.Status.STABLE)
         static <C> @NonNull Simple<C> partialTokenMatches(final boolean ignoreCase) {
-            return Simple.contextFree((suggestion, input) -> {
-                final List<String> suggestionTokens = new CommandInputTokenizer(suggestion).tokenize();
-                final List<String> inputTokens = new CommandInputTokenizer(input).tokenize();
-
-                boolean passed = true;
-
-                for (String inputToken : inputTokens) {
-                    if (ignoreCase) {
-                        inputToken = inputToken.toLowerCase(Locale.ROOT);
-                    }
-
-                    boolean foundMatch = false;
-
-                    for (final Iterator<String> iterator = suggestionTokens.iterator(); iterator.hasNext();) {
-                        final String suggestionToken = iterator.next();
-                        final String suggestionTokenLower =
-                                ignoreCase ? suggestionToken.toLowerCase(Locale.ROOT) : suggestionToken;
-                        if (suggestionTokenLower.contains(inputToken)) {
-                            iterator.remove();
-                            foundMatch = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundMatch) {
-                        passed = false;
-                        break;
-                    }
-                }
-
-                return passed;
-            });
+            return new StandardFilter<>(StandardFilter.Mode.PARTIAL_TOKEN_MATCHES, ignoreCase);
         }
 
         /**
@@ -279,5 +273,211 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
                 return (ctx, suggestion, input) -> test.test(suggestion, input);
             }
         }
+
+        /**
+         * {@link Filter} that has been prepared for the input of a single suggestion request.
+         *
+         * @see Filter#compile(CommandPreprocessingContext, String)
+         */
+        @API(status = API.Status.STABLE)
+        @FunctionalInterface
+        interface Compiled {
+
+            /**
+             * Filters a potential suggestion against the input that this filter was compiled for.
+             *
+             * @param suggestion potential suggestion
+             * @return possibly modified suggestion string or null to deny
+             */
+            @API(status = API.Status.STABLE)
+            @Nullable String filter(@NonNull Suggestion suggestion);
+        }
+    }
+
+
+    private static final class AndFilter<C> implements Filter<C> {
+
+        private final Filter<C> first;
+        private final Filter<C> second;
+
+        private AndFilter(final @NonNull Filter<C> first, final @NonNull Filter<C> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public @Nullable String filter(
+                final @NonNull CommandPreprocessingContext<C> context,
+                final @NonNull String suggestion,
+                final @NonNull String input
+        ) {
+            final @Nullable String filtered = this.first.filter(context, suggestion, input);
+            if (filtered == null) {
+                return null;
+            }
+            return this.second.filter(context, filtered, input);
+        }
+
+        @Override
+        public @NonNull Compiled compile(
+                final @NonNull CommandPreprocessingContext<C> context,
+                final @NonNull String input
+        ) {
+            final Compiled first = this.first.compile(context, input);
+            final Compiled second = this.second.compile(context, input);
+            return suggestion -> {
+                final @Nullable String filtered = first.filter(suggestion);
+                if (filtered == null) {
+                    return null;
+                } else if (filtered == suggestion.suggestion()) {
+                    return second.filter(suggestion);
+                }
+                return second.filter(suggestion.withSuggestion(filtered));
+            };
+        }
+    }
+
+
+    /**
+     * Implementation of the built-in filters. When compiled, the input is case-folded and tokenized once, and the
+     * suggestions are case-folded using the cached form of {@link SimpleSuggestion} where possible.
+     *
+     * @param <C> command sender type
+     */
+    private static final class StandardFilter<C> implements Filter.Simple<C> {
+
+        private final Mode mode;
+        private final boolean ignoreCase;
+
+        private StandardFilter(final @NonNull Mode mode, final boolean ignoreCase) {
+            this.mode = mode;
+            this.ignoreCase = ignoreCase;
+        }
+
+        @Override
+        public boolean test(
+                final @NonNull CommandPreprocessingContext<C> context,
+                final @NonNull String suggestion,
+                final @NonNull String input
+        ) {
+            final String preparedInput = this.ignoreCase ? input.toLowerCase(Locale.ROOT) : input;
+            final String preparedSuggestion = this.ignoreCase ? suggestion.toLowerCase(Locale.ROOT) : suggestion;
+            return this.matches(preparedSuggestion, preparedInput, tokenize(preparedInput));
+        }
+
+        @Override
+        public @NonNull Compiled compile(
+                final @NonNull CommandPreprocessingContext<C> context,
+                final @NonNull String input
+        ) {
+            final String preparedInput = this.ignoreCase ? input.toLowerCase(Locale.ROOT) : input;
+            final String[] inputTokens = this.mode == Mode.PARTIAL_TOKEN_MATCHES ? tokenize(preparedInput) : null;
+            return suggestion -> {
+                final String preparedSuggestion = this.ignoreCase ? fold(suggestion) : suggestion.suggestion();
+                if (this.matches(preparedSuggestion, preparedInput, inputTokens)) {
+                    return suggestion.suggestion();
+                }
+                return null;
+            };
+        }
+
+        private boolean matches(
+                final @NonNull String suggestion,
+                final @NonNull String input,
+                final @NonNull String @Nullable[] inputTokens
+        ) {
+            switch (this.mode) {
+                case STARTS_WITH:
+                    return suggestion.startsWith(input);
+                case CONTAINS:
+                    return suggestion.contains(input);
+                case PARTIAL_TOKEN_MATCHES:
+                    // A suggestion that starts with the input always has a matching token for every input token
+                    return suggestion.startsWith(input) || partialTokenMatches(suggestion, Objects.requireNonNull(inputTokens));
+                default:
+                    throw new IllegalStateException("Unknown filter mode: " + this.mode);
+            }
+        }
+
+        private static @NonNull String @NonNull[] tokenize(final @NonNull String input) {
+            final List<String> tokens = new CommandInputTokenizer(input).tokenize();
+            return tokens.toArray(new String[0]);
+        }
+
+        /**
+         * Tests whether every input token is contained in a distinct token of the suggestion. The suggestion is tokenized
+         * in the same way as {@link CommandInputTokenizer}, but the tokens are tracked by their bounds instead of being
+         * copied.
+         *
+         * @param suggestion  the suggestion
+         * @param inputTokens the input tokens
+         * @return whether the suggestion matches
+         */
+        private static boolean partialTokenMatches(final @NonNull String suggestion, final @NonNull String @NonNull[] inputTokens) {
+            final int length = suggestion.length();
+            final boolean trailingEmptyToken = length > 0 && suggestion.charAt(length - 1) == ' ';
+            int tokenCount = trailingEmptyToken ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (suggestion.charAt(i) != ' ' && (i == 0 || suggestion.charAt(i - 1) == ' ')) {
+                    tokenCount++;
+                }
+            }
+
+            final int[] starts = new int[tokenCount];
+            final int[] ends = new int[tokenCount];
+            int token = 0;
+            int index = 0;
+            while (index < length) {
+                if (suggestion.charAt(index) == ' ') {
+                    index++;
+                    continue;
+                }
+                starts[token] = index;
+                while (index < length && suggestion.charAt(index) != ' ') {
+                    index++;
+                }
+                ends[token++] = index;
+            }
+            if (trailingEmptyToken) {
+                starts[token] = length;
+                ends[token] = length;
+            }
+
+            final boolean[] used = new boolean[tokenCount];
+            for (final String inputToken : inputTokens) {
+                boolean foundMatch = false;
+                for (int i = 0; i < tokenCount; i++) {
+                    if (!used[i] && regionContains(suggestion, starts[i], ends[i], inputToken)) {
+                        used[i] = true;
+                        foundMatch = true;
+                        break;
+                    }
+                }
+                if (!foundMatch) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean regionContains(
+                final @NonNull String string,
+                final int start,
+                final int end,
+                final @NonNull String token
+        ) {
+            if (token.isEmpty()) {
+                return true;
+            }
+            final int index = string.indexOf(token, start);
+            return index != -1 && index + token.length() <= end;
+        }
+
+
+        private enum Mode {
+            STARTS_WITH,
+            CONTAINS,
+            PARTIAL_TOKEN_MATCHES
+        }
     }
 }
@@ -0,0 +1,316 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+
+/**
+ * Suggestion processor that tolerates typos by ranking suggestions by their edit distance to the input.
+ *
+ * <p>A suggestion is scored by the smallest optimal string alignment distance (Damerau-Levenshtein distance where each
+ * substring may only be edited once) between the input and any prefix of the suggestion, meaning that suggestions are
+ * matched as the sender types. Suggestions with a distance larger than the maximum distance are removed, and the remaining
+ * suggestions are ordered by their distance. Suggestions with equal distances keep their original order.</p>
+ *
+ * <p>Inputs of up to 64 characters are matched using a bit-parallel algorithm, which makes the cost of scoring a
+ * suggestion linear in the length of the input plus the maximum distance. Only the best {@code limit} suggestions are
+ * kept while processing, using a bounded heap.</p>
+ *
+ * <p>As suggestions that start with the input have a distance of zero, this may be used in place of a
+ * {@link FilteringSuggestionProcessor}. It may also be chained after another processor using
+ * {@link #then(SuggestionProcessor)}.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class FuzzySuggestionProcessor<C> implements SuggestionProcessor<C> {
+
+    private static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+
+    private final int maxDistance;
+    private final int limit;
+    private final boolean ignoreCase;
+
+    /**
+     * Creates a new {@link FuzzySuggestionProcessor} that ignores case, allows two edits and keeps up to 100 suggestions.
+     */
+    public FuzzySuggestionProcessor() {
+        this(2, 100, true);
+    }
+
+    /**
+     * Creates a new {@link FuzzySuggestionProcessor}.
+     *
+     * @param maxDistance the maximum number of edits that are tolerated
+     * @param limit       the maximum number of suggestions to keep
+     * @param ignoreCase  whether to ignore case
+     */
+    public FuzzySuggestionProcessor(final int maxDistance, final int limit, final boolean ignoreCase) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("maxDistance cannot be negative");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.maxDistance = maxDistance;
+        this.limit = limit;
+        this.ignoreCase = ignoreCase;
+    }
+
+    @Override
+    public @NonNull Stream<@NonNull Suggestion> process(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull Stream<@NonNull Suggestion> suggestions
+    ) {
+        final String input;
+        if (context.commandInput().isEmpty(true /* ignoreWhitespace */)) {
+            input = "";
+        } else {
+            input = context.commandInput().skipWhitespace().remainingInput();
+        }
+        final Matcher matcher = this.matcher(input);
+
+        // Max-heap on the worst retained candidate, so that it can be replaced by better candidates.
+        final Comparator<Candidate> ranking = Comparator.<Candidate>comparingInt(candidate -> candidate.distance)
+                .thenComparingLong(candidate -> candidate.index);
+        final PriorityQueue<Candidate> heap = new PriorityQueue<>(Math.min(this.limit, 64) + 1, ranking.reversed());
+        final long[] index = new long[1];
+        suggestions.forEachOrdered(suggestion -> {
+            final long currentIndex = index[0]++;
+            final String text = this.ignoreCase ? fold(suggestion) : suggestion.suggestion();
+            final int distance = matcher.distance(text);
+            if (distance > this.maxDistance) {
+                return;
+            }
+            if (heap.size() == this.limit) {
+                final Candidate worst = heap.peek();
+                if (worst.distance <= distance) {
+                    // Later candidates lose ties, so they can never replace an equally ranked candidate
+                    return;
+                }
+                heap.poll();
+            }
+            heap.add(new Candidate(suggestion, distance, currentIndex));
+        });
+
+        final List<Candidate> candidates = new ArrayList<>(heap);
+        Collections.sort(candidates, ranking);
+        return candidates.stream().map(candidate -> candidate.suggestion);
+    }
+
+    /**
+     * Returns the distance between the given {@code input} and the closest prefix of the given {@code text}, or a value
+     * larger than the maximum distance if no prefix is close enough.
+     *
+     * @param input the input
+     * @param text  the text to match
+     * @return the bounded prefix distance
+     */
+    int distance(final @NonNull String input, final @NonNull String text) {
+        return this.matcher(input).distance(text);
+    }
+
+    private @NonNull Matcher matcher(final @NonNull String input) {
+        final String pattern = this.ignoreCase ? input.toLowerCase(Locale.ROOT) : input;
+        if (pattern.length() <= MAX_BIT_PARALLEL_LENGTH) {
+            return new BitParallelMatcher(pattern, this.maxDistance);
+        }
+        return new DynamicProgrammingMatcher(pattern, this.maxDistance);
+    }
+
+    private static @NonNull String fold(final @NonNull Suggestion suggestion) {
+        if (suggestion instanceof SimpleSuggestion) {
+            return ((SimpleSuggestion) suggestion).foldedSuggestion();
+        }
+        return suggestion.suggestion().toLowerCase(Locale.ROOT);
+    }
+
+
+    private static final class Candidate {
+
+        private final Suggestion suggestion;
+        private final int distance;
+        private final long index;
+
+        private Candidate(final @NonNull Suggestion suggestion, final int distance, final long index) {
+            this.suggestion = suggestion;
+            this.distance = distance;
+            this.index = index;
+        }
+    }
+
+
+    private interface Matcher {
+
+        /**
+         * Returns the bounded prefix distance between the pattern and the given {@code text}.
+         *
+         * @param text the text
+         * @return the distance, or a value larger than the maximum distance
+         */
+        int distance(@NonNull String text);
+    }
+
+
+    /**
+     * Computes the optimal string alignment distance using the bit-vector algorithm by Myers, with the transposition
+     * extension by Hyyrö. The vertical deltas of one column of the dynamic programming matrix are stored in two words,
+     * so every character of the text is processed in constant time.
+     */
+    private static final class BitParallelMatcher implements Matcher {
+
+        private static final int ASCII_LIMIT = 128;
+
+        private final String pattern;
+        private final int maxDistance;
+        private final long[] asciiMasks = new long[ASCII_LIMIT];
+
+        private BitParallelMatcher(final @NonNull String pattern, final int maxDistance) {
+            this.pattern = pattern;
+            this.maxDistance = maxDistance;
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c < ASCII_LIMIT) {
+                    this.asciiMasks[c] |= 1L << i;
+                }
+            }
+        }
+
+        private long mask(final char c) {
+            if (c < ASCII_LIMIT) {
+                return this.asciiMasks[c];
+            }
+            long mask = 0L;
+            for (int i = 0; i < this.pattern.length(); i++) {
+                if (this.pattern.charAt(i) == c) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+
+        @Override
+        public int distance(final @NonNull String text) {
+            final int m = this.pattern.length();
+            if (m == 0) {
+                return 0;
+            }
+            final long last = 1L << (m - 1);
+            // Prefixes longer than this are always too far away
+            final int end = Math.min(text.length(), m + this.maxDistance);
+
+            long vp = -1L;
+            long vn = 0L;
+            long d0 = 0L;
+            long previousMask = 0L;
+            int distance = m;
+            int best = m;
+            for (int j = 0; j < end; j++) {
+                final long mask = this.mask(text.charAt(j));
+                d0 = (((~d0) & mask) << 1) & previousMask;
+                d0 |= (((mask & vp) + vp) ^ vp) | mask | vn;
+                long hp = vn | ~(d0 | vp);
+                long hn = d0 & vp;
+                if ((hp & last) != 0) {
+                    distance++;
+                } else if ((hn & last) != 0) {
+                    distance--;
+                }
+                best = Math.min(best, distance);
+                // The distance decreases by at most one per character, so stop once no later prefix can improve
+                if (distance - (end - j - 1) >= Math.min(best, this.maxDistance + 1)) {
+                    break;
+                }
+                hp = (hp << 1) | 1L;
+                hn <<= 1;
+                vp = hn | ~(d0 | hp);
+                vn = d0 & hp;
+                previousMask = mask;
+            }
+            return best;
+        }
+    }
+
+
+    /**
+     * Fallback for patterns that do not fit into a single word.
+     */
+    private static final class DynamicProgrammingMatcher implements Matcher {
+
+        private final String pattern;
+        private final int maxDistance;
+
+        private DynamicProgrammingMatcher(final @NonNull String pattern, final int maxDistance) {
+            this.pattern = pattern;
+            this.maxDistance = maxDistance;
+        }
+
+        @Override
+        public int distance(final @NonNull String text) {
+            final int m = this.pattern.length();
+            final int end = Math.min(text.length(), m + this.maxDistance);
+            // Columns of the matrix, indexed by the pattern position
+            int[] previous = null;
+            int[] current = new int[m + 1];
+            int[] next = new int[m + 1];
+            for (int i = 0; i <= m; i++) {
+                current[i] = i;
+            }
+            int best = current[m];
+            for (int j = 1; j <= end; j++) {
+                final char c = text.charAt(j - 1);
+                next[0] = j;
+                int columnMin = next[0];
+                for (int i = 1; i <= m; i++) {
+                    final int cost = this.pattern.charAt(i - 1) == c ? 0 : 1;
+                    int value = Math.min(Math.min(next[i - 1] + 1, current[i] + 1), current[i - 1] + cost);
+                    if (previous != null && i > 1 && this.pattern.charAt(i - 1) == text.charAt(j - 2)
+                            && this.pattern.charAt(i - 2) == c) {
+                        value = Math.min(value, previous[i - 2] + 1);
+                    }
+                    next[i] = value;
+                    columnMin = Math.min(columnMin, value);
+                }
+                best = Math.min(best, next[m]);
+                if (columnMin > this.maxDistance) {
+                    break;
+                }
+                final int[] recycled = previous == null ? new int[m + 1] : previous;
+                previous = current;
+                current = next;
+                next = recycled;
+            }
+            return best;
+        }
+    }
+}
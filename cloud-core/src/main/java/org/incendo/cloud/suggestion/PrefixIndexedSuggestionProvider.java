@@ -0,0 +1,192 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * Suggestion provider for large static suggestion sets, such as item identifiers.
+ *
+ * <p>The suggestions are sorted by their case-folded form once, when the provider is created. Lookups use a binary search
+ * to find the range of suggestions that start with the current input, ignoring case, which means that only matching
+ * suggestions are returned and the cost of a lookup does not depend on the total number of suggestions.</p>
+ *
+ * <p>Unlike {@link SuggestionProvider#suggestingStrings(Iterable)} this provider will not return suggestions that merely
+ * contain the input. The suggestions are returned in the order of their case-folded form.</p>
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class PrefixIndexedSuggestionProvider<C> implements BlockingSuggestionProvider<C> {
+
+    private final String[] keys;
+    private final List<Suggestion> suggestions;
+
+    private PrefixIndexedSuggestionProvider(final @NonNull List<IndexEntry> entries) {
+        entries.sort(Comparator.comparing(entry -> entry.key));
+        this.keys = new String[entries.size()];
+        final Suggestion[] suggestions = new Suggestion[entries.size()];
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = entries.get(i).key;
+            suggestions[i] = entries.get(i).suggestion;
+        }
+        this.suggestions = Collections.unmodifiableList(Arrays.asList(suggestions));
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the created provider
+     */
+    public static <C> @NonNull PrefixIndexedSuggestionProvider<C> suggesting(
+            final @NonNull Iterable<? extends @NonNull Suggestion> suggestions
+    ) {
+        final List<IndexEntry> entries = new ArrayList<>();
+        for (final Suggestion suggestion : suggestions) {
+            Objects.requireNonNull(suggestion, "suggestion");
+            final String key;
+            if (suggestion instanceof SimpleSuggestion) {
+                key = ((SimpleSuggestion) suggestion).foldedSuggestion();
+            } else {
+                key = suggestion.suggestion().toLowerCase(Locale.ROOT);
+            }
+            entries.add(new IndexEntry(key, suggestion));
+        }
+        return new PrefixIndexedSuggestionProvider<>(entries);
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the created provider
+     */
+    public static <C> @NonNull PrefixIndexedSuggestionProvider<C> suggestingStrings(
+            final @NonNull Iterable<@NonNull String> suggestions
+    ) {
+        final List<IndexEntry> entries = new ArrayList<>();
+        for (final String suggestion : suggestions) {
+            final SimpleSuggestion simpleSuggestion = new SimpleSuggestion(Objects.requireNonNull(suggestion, "suggestion"));
+            entries.add(new IndexEntry(simpleSuggestion.foldedSuggestion(), simpleSuggestion));
+        }
+        return new PrefixIndexedSuggestionProvider<>(entries);
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the created provider
+     */
+    public static <C> @NonNull PrefixIndexedSuggestionProvider<C> suggestingStrings(
+            final @NonNull String @NonNull... suggestions
+    ) {
+        return suggestingStrings(Arrays.asList(suggestions));
+    }
+
+    @Override
+    public @NonNull List<@NonNull Suggestion> suggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        final String remainingInput = input.remainingInput();
+        int start = 0;
+        while (start < remainingInput.length() && remainingInput.charAt(start) == ' ') {
+            start++;
+        }
+        return this.matching(remainingInput.substring(start));
+    }
+
+    /**
+     * Returns the suggestions that start with the given {@code prefix}, ignoring case.
+     *
+     * @param prefix the prefix
+     * @return immutable view of the matching suggestions
+     */
+    public @NonNull List<@NonNull Suggestion> matching(final @NonNull String prefix) {
+        if (prefix.isEmpty()) {
+            return this.suggestions;
+        }
+        final String foldedPrefix = prefix.toLowerCase(Locale.ROOT);
+
+        int low = 0;
+        int high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].compareTo(foldedPrefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        final int from = low;
+
+        // Keys that start with the prefix form a contiguous range starting at the lower bound.
+        high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].startsWith(foldedPrefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return this.suggestions.subList(from, low);
+    }
+
+    /**
+     * Returns the number of indexed suggestions.
+     *
+     * @return the number of suggestions
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+
+    private static final class IndexEntry {
+
+        private final String key;
+        private final Suggestion suggestion;
+
+        private IndexEntry(final @NonNull String key, final @NonNull Suggestion suggestion) {
+            this.key = key;
+            this.suggestion = suggestion;
+        }
+    }
+}
@@ -23,12 +23,15 @@
 //
 package org.incendo.cloud.suggestion;
 
+import java.util.Locale;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class SimpleSuggestion implements Suggestion {
 
     private final String suggestion;
+    private @Nullable String foldedSuggestion;
 
     SimpleSuggestion(final @NonNull String suggestion) {
         this.suggestion = suggestion;
@@ -39,6 +42,21 @@ final class SimpleSuggestion implements Suggestion {
         return this.suggestion;
     }
 
+    /**
+     * Returns the suggestion string converted to lower case using {@link Locale#ROOT}. The result is computed once and then
+     * reused by subsequent calls.
+     *
+     * @return the case-folded suggestion
+     */
+    @NonNull String foldedSuggestion() {
+        String folded = this.foldedSuggestion;
+        if (folded == null) {
+            folded = this.suggestion.toLowerCase(Locale.ROOT);
+            this.foldedSuggestion = folded;
+        }
+        return folded;
+    }
+
     @Override
     public @NonNull Suggestion withSuggestion(final @NonNull String suggestion) {
         return new SimpleSuggestion(suggestion);
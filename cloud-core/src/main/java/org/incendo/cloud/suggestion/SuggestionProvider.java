@@ -29,6 +29,7 @@ import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
 
 /**
  * Provider of suggestions
@@ -39,6 +40,13 @@ import org.incendo.cloud.context.CommandInput;
 @FunctionalInterface
 public interface SuggestionProvider<C> {
 
+    /**
+     * Key used to store the {@link org.incendo.cloud.CommandManager#suggestionLimit() suggestion limit} in the
+     * {@link CommandContext} when a limit is configured. Providers may use it to bound the number of suggestions they
+     * compute up front.
+     */
+    CloudKey<Integer> SUGGESTION_LIMIT_KEY = CloudKey.of("__suggestion_limit__", Integer.class);
+
     /**
      * Returns a future that completes with the suggestions for the given {@code input}.
      *
@@ -48,6 +56,10 @@ public interface SuggestionProvider<C> {
      * {@link CommandInput#lastRemainingToken()} may be used to extract the part of the command that is currently being
      * completed by the command sender.</p>
      *
+     * <p>The returned {@link Iterable} is only iterated as far as needed to fill the
+     * {@link org.incendo.cloud.CommandManager#suggestionLimit() suggestion limit}, so providers with large result sets may
+     * return a lazily computed iterable.</p>
+     *
      * <p>If you don't need to return a future, you can implement {@link BlockingSuggestionProvider} instead.</p>
      *
      * @param context the context of the suggestion lookup
@@ -59,6 +59,113 @@ public final class StringUtils {
         return occurrences;
     }
 
+    /**
+     * Returns whether the given token looks like a flag, that is {@code -x} for a single flag character or {@code --name}
+     * for any number of flag characters, where flag characters are ASCII letters, digits, {@code _} and {@code -}.
+     *
+     * <p>This is equivalent to matching {@code (-[A-Za-z_\-0-9])|(--[A-Za-z_\-0-9]*)} against the entire token.</p>
+     *
+     * @param token token to check
+     * @return whether the token is a potential flag
+     */
+    public static boolean isPotentialFlag(final @NonNull String token) {
+        final int length = token.length();
+        if (length < 2 || token.charAt(0) != '-') {
+            return false;
+        }
+        if (length == 2) {
+            return isFlagCharacter(token.charAt(1));
+        }
+        if (token.charAt(1) != '-') {
+            return false;
+        }
+        for (int i = 2; i < length; i++) {
+            if (!isFlagCharacter(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFlagCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    /**
+     * Finds the first quoted string in {@code string}, where a quoted string starts and ends with an unescaped
+     * {@code quote} and a backslash escapes the character following it.
+     *
+     * <p>This is equivalent to {@code Matcher#find()} using the pattern {@code "((?:[^"\\]|\\.)*)"}, with {@code "}
+     * replaced by {@code quote}, but runs in linear time and does not allocate.</p>
+     *
+     * @param string string to search in
+     * @param quote  quote character
+     * @return index of the opening quote, or {@code -1} if there is no quoted string
+     * @see #closingQuote(String, int)
+     */
+    public static int findQuoted(final @NonNull String string, final char quote) {
+        int start = string.indexOf(quote);
+        while (start != -1) {
+            final int end = scanQuoted(string, start);
+            if (end >= 0) {
+                return start;
+            }
+            // Any quote between the start and the failure position is escaped. A scan starting there continues in
+            // step with this one and fails at the same position, so those can be skipped.
+            final int failure = -(end + 1);
+            if (failure >= string.length()) {
+                return -1;
+            }
+            start = string.indexOf(quote, failure + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the quote that closes the quoted string opened at {@code start}.
+     *
+     * @param string string containing the quoted string
+     * @param start  index of the opening quote, as returned by {@link #findQuoted(String, char)}
+     * @return index of the closing quote, or {@code -1} if the quoted string is not terminated
+     */
+    public static int closingQuote(final @NonNull String string, final int start) {
+        final int end = scanQuoted(string, start);
+        return end >= 0 ? end : -1;
+    }
+
+    /**
+     * Scans the quoted string opened at {@code start}.
+     *
+     * @param string string containing the quoted string
+     * @param start  index of the opening quote
+     * @return index of the closing quote, or {@code -(index + 1)} where {@code index} is the position at which the scan
+     *     failed, which is either the end of the string or a backslash that does not escape anything
+     */
+    private static int scanQuoted(final @NonNull String string, final int start) {
+        final char quote = string.charAt(start);
+        final int length = string.length();
+        int i = start + 1;
+        while (i < length) {
+            final char c = string.charAt(i);
+            if (c == quote) {
+                return i;
+            } else if (c == '\\') {
+                // Mirrors the '.' of the pattern, which doesn't match line terminators.
+                if (i + 1 >= length || isLineTerminator(string.charAt(i + 1))) {
+                    return -(i + 1);
+                }
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+        return -(length + 1);
+    }
+
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
     /**
      * Replace all matches in a string.
      *
@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.standard.BooleanParser;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of failed parses. The boolean parser validates its input without throwing, so the cost is
+ * dominated by the creation of the parser exception.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ParserExceptionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private BooleanParser<TestCommandSender> parser;
+    private CommandContext<TestCommandSender> context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Not mocked, as the mock's interception would outweigh the cost of the exception
+        final CommandManager<TestCommandSender> manager = new CommandManager<TestCommandSender>(
+                ExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final TestCommandSender sender, final String permission) {
+                return true;
+            }
+        };
+        manager.settings().set(ManagerSetting.STACKLESS_PARSER_EXCEPTIONS, this.stackless);
+        this.parser = new BooleanParser<>(false /* liberal */);
+        this.context = new CommandContext<>(new TestCommandSender(), manager);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public ArgumentParseResult<Boolean> parseInvalidBoolean() {
+        return this.parser.parse(this.context, CommandInput.of("not-a-boolean"));
+    }
+}
@@ -30,6 +30,9 @@ import java.util.Objects;
 import java.util.Optional;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.annotation.specifier.Range;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserParameters;
 import org.incendo.cloud.parser.ParserRegistry;
@@ -143,4 +146,78 @@ public class ParserRegistryTest {
         // Then
         assertThat(parserOptional).isPresent();
     }
+
+    @Test
+    void creating_stateless_parsers_with_equal_parameters_shares_instance() {
+        // Given
+        final StandardParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>();
+        final ParserParameters first = parserRegistry.parseAnnotations(TypeToken.get(int.class), Collections.singleton(RANGE));
+        final ParserParameters second = parserRegistry.parseAnnotations(TypeToken.get(int.class), Collections.singleton(RANGE));
+
+        // When
+        final ArgumentParser<TestCommandSender, ?> firstParser = parserRegistry.createParser(TypeToken.get(int.class), first)
+                .orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, ?> secondParser = parserRegistry.createParser(TypeToken.get(Integer.class), second)
+                .orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, ?> unboundedParser = parserRegistry.createParser(
+                TypeToken.get(int.class),
+                ParserParameters.empty()
+        ).orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, ?> firstEnumParser = parserRegistry.createParser(
+                TypeToken.get(ManagerSetting.class),
+                ParserParameters.empty()
+        ).orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, ?> secondEnumParser = parserRegistry.createParser(
+                TypeToken.get(ManagerSetting.class),
+                ParserParameters.empty()
+        ).orElseThrow(NullPointerException::new);
+
+        // Then
+        assertThat(secondParser).isSameInstanceAs(firstParser);
+        assertThat(unboundedParser).isNotSameInstanceAs(firstParser);
+        assertThat(secondEnumParser).isSameInstanceAs(firstEnumParser);
+        assertThat(parserRegistry.savedParserInstances()).isEqualTo(2);
+    }
+
+    @Test
+    void creating_stateful_parsers_does_not_share_instance() {
+        // Given
+        final StandardParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>();
+        parserRegistry.registerParserSupplier(TypeToken.get(Integer.class), parameters -> new StatefulParser());
+
+        // When
+        final Optional<?> first = parserRegistry.createParser(TypeToken.get(int.class), ParserParameters.empty());
+        final Optional<?> second = parserRegistry.createParser(TypeToken.get(int.class), ParserParameters.empty());
+
+        // Then
+        assertThat(first.get()).isNotSameInstanceAs(second.get());
+        assertThat(parserRegistry.savedParserInstances()).isEqualTo(0);
+    }
+
+    @Test
+    void replacing_parser_supplier_discards_shared_instances() {
+        // Given
+        final StandardParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>();
+        final Optional<?> original = parserRegistry.createParser(TypeToken.get(Integer.class), ParserParameters.empty());
+
+        // When
+        parserRegistry.registerParserSupplier(TypeToken.get(Integer.class), parameters -> new IntegerParser<>(0, 10));
+        final Optional<?> replaced = parserRegistry.createParser(TypeToken.get(Integer.class), ParserParameters.empty());
+
+        // Then
+        assertThat(replaced.get()).isNotSameInstanceAs(original.get());
+        assertThat(((IntegerParser<?>) replaced.get()).range().maxInt()).isEqualTo(10);
+    }
+
+
+    private static final class StatefulParser implements ArgumentParser<TestCommandSender, Integer> {
+
+        @Override
+        public @NonNull ArgumentParseResult<@NonNull Integer> parse(
+                final @NonNull CommandContext<@NonNull TestCommandSender> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            return ArgumentParseResult.success(commandInput.readInteger());
+        }
+    }
 }
@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.suggestion.FilteringSuggestionProcessor;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SuggestionFilteringBenchmark {
+
+    @Param({"partialTokenMatches", "startsWith", "contains"})
+    private String filter;
+
+    @Param({"", "ite", "item_12 red"})
+    private String input;
+
+    private List<Suggestion> suggestions;
+    private FilteringSuggestionProcessor<TestCommandSender> processor;
+    private CommandPreprocessingContext<TestCommandSender> context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final Random random = new Random(42L);
+        final String[] colors = {"Red", "Green", "Blue", "Yellow"};
+        this.suggestions = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            this.suggestions.add(Suggestion.suggestion("Item_" + i + " " + colors[random.nextInt(colors.length)]));
+        }
+
+        final FilteringSuggestionProcessor.Filter<TestCommandSender> filter;
+        switch (this.filter) {
+            case "startsWith":
+                filter = FilteringSuggestionProcessor.Filter.startsWith(true);
+                break;
+            case "contains":
+                filter = FilteringSuggestionProcessor.Filter.contains(true);
+                break;
+            default:
+                filter = FilteringSuggestionProcessor.Filter.partialTokenMatches(true);
+                break;
+        }
+        this.processor = new FilteringSuggestionProcessor<>(filter);
+        this.context = CommandPreprocessingContext.of(
+                new CommandContext<>(true, new TestCommandSender(), manager),
+                CommandInput.of(this.input)
+        );
+    }
+
+    @Benchmark
+    @Fork(1)
+    public List<Suggestion> filterSuggestions() {
+        this.context.commandInput().cursor(0);
+        return this.processor.process(this.context, this.suggestions.stream()).collect(Collectors.toList());
+    }
+}
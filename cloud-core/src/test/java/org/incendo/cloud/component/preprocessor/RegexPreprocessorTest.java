@@ -0,0 +1,198 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.component.preprocessor;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.caption.StandardCaptionKeys;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RegexPreprocessorTest {
+
+    private static final String[] INPUTS = {
+            "", "a", "b", "ab", "abc", "aab", "abab", "xaby", "hello", "Hello", "HELLO", "hello world", "123", "12a", "a1",
+            "abc123", "foo_bar", "foo-bar", "-", "$", "^", "a.b", "a+b", "aaaa", "aaaaab", "tab\there", "été",
+            "#ff00ff", "#FF00", "user@example.com", "1.2.3", "v1.20.4"
+    };
+
+    private static final String[] PATTERNS = {
+            "a", "ab", "^a", "a$", "^ab$", "^$", "", "a|b", "^(a|b)+$", "(ab)*", "^(ab)*$", "a*b", "a+b", "a?b",
+            "^a{2}", "^a{2,}$", "^a{1,3}b", "a{0,2}", "[a-c]+", "^[^a-z]+$", "[\\w-]+", "^\\w+$", "^\\d+$", "\\D",
+            "\\s", "^\\S+$", "\\W", "^[A-Za-z]+$", "^#[0-9a-fA-F]{6}$", "^[\\w.]+@[\\w.]+\\.\\w+$", "^v?\\d+(\\.\\d+)*$",
+            "\\.", "\\$", "\\^", "a.b", "^.*$", ".+", "^(?:hello|world)( \\w+)?$", "^(?<name>[a-z]+)$", "a*?b", "[-+]",
+            "[a-]", "\\x41", "\\u00e9", "\\t", "(a*)*b", "(a|ab)(c|bcd)", "$a", "a^", "(^a|b$)", "()", "a||b",
+            "[^\\d\\s]+", "[\\-]"
+    };
+
+    private CommandManager<TestCommandSender> manager;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+    }
+
+    static Stream<Arguments> testLinearPatternMatchesJavaPattern() {
+        return Stream.of(PATTERNS).map(Arguments::arguments);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLinearPatternMatchesJavaPattern(final String pattern) {
+        // Arrange
+        final Pattern javaPattern = Pattern.compile(pattern);
+
+        // Act
+        final LinearPattern linearPattern = LinearPattern.compile(pattern);
+
+        // Assert
+        assertThat(linearPattern).isNotNull();
+        for (final String input : INPUTS) {
+            assertWithMessage("%s in %s", pattern, input).that(linearPattern.find(input))
+                    .isEqualTo(javaPattern.matcher(input).find());
+        }
+    }
+
+    static Stream<Arguments> testLinearPatternUnsupported() {
+        return Stream.of("(a)\\1", "a(?=b)", "a(?!b)", "(?<=a)b", "\\bword\\b", "(?i)abc", "a*+", "[a[b]]", "[a-z&&[^b]]",
+                "\\p{L}", "\\Qa.b\\E", "\\Aa", "a{10000}", "(a{100}){100}").map(Arguments::arguments);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLinearPatternUnsupported(final String pattern) {
+        // Arrange
+        Pattern.compile(pattern);
+
+        // Act
+        final LinearPattern linearPattern = LinearPattern.compile(pattern);
+
+        // Assert
+        assertThat(linearPattern).isNull();
+    }
+
+    @Test
+    void testLinearPatternDfaCacheIsBounded() {
+        // Arrange
+        final String pattern = "(a|b)*a(a|b){12}";
+        final Pattern javaPattern = Pattern.compile(pattern);
+        final LinearPattern linearPattern = LinearPattern.compile(pattern);
+
+        // Act
+        // Every combination of the last 12 characters leads to a distinct DFA state.
+        for (int i = 0; i < 1 << 12; i++) {
+            final StringBuilder input = new StringBuilder("bbbb");
+            for (int j = 0; j < 12; j++) {
+                input.append((i & 1 << j) == 0 ? 'a' : 'b');
+            }
+            assertThat(linearPattern.find(input)).isEqualTo(javaPattern.matcher(input).find());
+        }
+
+        // Assert
+        assertThat(linearPattern.retainedStates()).isAtMost(1024);
+    }
+
+    @Test
+    void Preprocess_LinearEngineCatastrophicPattern_CompletesQuickly() {
+        // Arrange
+        final RegexPreprocessor<TestCommandSender> preprocessor = RegexPreprocessor.of(
+                "^(a+)+$",
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_REGEX,
+                RegexPreprocessor.Engine.LINEAR
+        );
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.manager);
+        final CommandInput input = CommandInput.of(repeat('a', 5000) + "!");
+
+        // Act
+        final ArgumentParseResult<Boolean> result = assertTimeoutPreemptively(
+                Duration.ofSeconds(5L),
+                () -> preprocessor.preprocess(context, input)
+        );
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+    }
+
+    @Test
+    void Preprocess_LinearEngineUnsupportedCatastrophicPattern_RejectsWithinBudget() {
+        // Arrange
+        final RegexPreprocessor<TestCommandSender> preprocessor = RegexPreprocessor.of(
+                "^(a+)+\\b$",
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_REGEX,
+                RegexPreprocessor.Engine.LINEAR
+        );
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.manager);
+        final CommandInput input = CommandInput.of(repeat('a', 5000) + "!");
+
+        // Act
+        final ArgumentParseResult<Boolean> result = assertTimeoutPreemptively(
+                Duration.ofSeconds(5L),
+                () -> preprocessor.preprocess(context, input)
+        );
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+    }
+
+    @Test
+    void Preprocess_LinearEngineUnsupportedPattern_FallsBackToJavaPattern() {
+        // Arrange
+        final RegexPreprocessor<TestCommandSender> preprocessor = RegexPreprocessor.of(
+                "^(\\w)\\1$",
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_REGEX,
+                RegexPreprocessor.Engine.LINEAR
+        );
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.manager);
+
+        // Act
+        final ArgumentParseResult<Boolean> success = preprocessor.preprocess(context, CommandInput.of("aa"));
+        final ArgumentParseResult<Boolean> failure = preprocessor.preprocess(context, CommandInput.of("ab"));
+
+        // Assert
+        assertThat(success.parsedValue()).hasValue(true);
+        assertThat(failure.failure()).isPresent();
+    }
+
+    private static String repeat(final char c, final int count) {
+        final StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
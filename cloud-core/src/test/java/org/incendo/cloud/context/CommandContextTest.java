@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.context;
+
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.key.CloudKey;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandContextTest {
+
+    private static final CloudKey<String> FIRST = CloudKey.of("first", String.class);
+    private static final CloudKey<String> SECOND = CloudKey.of("second", String.class);
+
+    @Test
+    void ComputeIfAbsent_FunctionStoresValue_BothValuesStored() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+
+        // Act
+        final String result = context.computeIfAbsent(FIRST, key -> {
+            context.store(SECOND, "second");
+            return "first";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("first");
+        assertThat(context.get(FIRST)).isEqualTo("first");
+        assertThat(context.get(SECOND)).isEqualTo("second");
+    }
+
+    @Test
+    void All_StoreDuringIteration_DoesNotThrow() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+        context.store(FIRST, "first");
+
+        // Act
+        context.all().forEach((key, value) -> context.store(SECOND, "second"));
+
+        // Assert
+        assertThat(context.get(SECOND)).isEqualTo("second");
+    }
+
+    @Test
+    void Store_NullValue_ThrowsNullPointerException() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+
+        // Act
+        final NullPointerException exception = assertThrows(NullPointerException.class, () -> context.store(FIRST, null));
+
+        // Assert
+        assertThat(exception).hasMessageThat().contains("first");
+        assertThat(context.contains(FIRST)).isFalse();
+    }
+
+    @Test
+    void Set_NullValue_RemovesValue() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), createManager());
+        context.store(FIRST, "first");
+
+        // Act
+        context.set(FIRST, null);
+
+        // Assert
+        assertThat(context.contains(FIRST)).isFalse();
+    }
+}
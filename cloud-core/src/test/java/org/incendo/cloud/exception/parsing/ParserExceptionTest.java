@@ -0,0 +1,129 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.exception.parsing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.caption.Caption;
+import org.incendo.cloud.caption.CaptionVariable;
+import org.incendo.cloud.caption.StandardCaptionKeys;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class ParserExceptionTest {
+
+    private static final Caption CAPTION = StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NUMBER;
+
+    private CommandManager<TestCommandSender> manager;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+    }
+
+    @Test
+    void StacklessSettingDisabled_CapturesStackTrace() {
+        // Act
+        final ParserException exception = this.createException(() -> new CaptionVariable[0]);
+
+        // Assert
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getStackTrace()[0].getMethodName()).isEqualTo("createException");
+    }
+
+    @Test
+    void StacklessSettingEnabled_OmitsStackTrace() {
+        // Arrange
+        this.manager.settings().set(ManagerSetting.STACKLESS_PARSER_EXCEPTIONS, true);
+
+        // Act
+        final ParserException exception = this.createException(() -> new CaptionVariable[0]);
+
+        // Assert
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void CaptionVariables_ResolvedOnceWhenFirstNeeded() {
+        // Arrange
+        final AtomicInteger invocations = new AtomicInteger();
+        final ParserException exception = this.createException(() -> {
+            invocations.incrementAndGet();
+            return new CaptionVariable[] {CaptionVariable.of("input", "abc")};
+        });
+
+        // Act & Assert
+        assertThat(invocations.get()).isEqualTo(0);
+        assertThat(exception.captionVariables()).asList().containsExactly(CaptionVariable.of("input", "abc"));
+        exception.getMessage();
+        exception.captionVariables();
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void CauseMessage_NotFormattedEagerly() {
+        // Arrange
+        final AtomicInteger invocations = new AtomicInteger();
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.manager);
+        final ParserException cause = new TestParserException(null, context, () -> {
+            invocations.incrementAndGet();
+            return new CaptionVariable[0];
+        });
+
+        // Act
+        final ParserException exception = new TestParserException(cause, context, () -> new CaptionVariable[0]);
+
+        // Assert
+        assertThat(exception.getCause()).isSameInstanceAs(cause);
+        assertThat(invocations.get()).isEqualTo(0);
+    }
+
+    private ParserException createException(final Supplier<CaptionVariable[]> variables) {
+        return new TestParserException(
+                null,
+                new CommandContext<>(new TestCommandSender(), this.manager),
+                variables
+        );
+    }
+
+    @SuppressWarnings("serial")
+    private static final class TestParserException extends ParserException {
+
+        private TestParserException(
+                final Throwable cause,
+                final CommandContext<?> context,
+                final Supplier<CaptionVariable[]> variables
+        ) {
+            super(cause, IntegerParser.class, context, CAPTION, variables);
+        }
+    }
+}
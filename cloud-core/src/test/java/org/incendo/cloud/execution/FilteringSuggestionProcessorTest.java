@@ -23,14 +23,23 @@
 //
 package org.incendo.cloud.execution;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import java.util.stream.Stream;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.internal.CommandInputTokenizer;
 import org.incendo.cloud.suggestion.FilteringSuggestionProcessor;
+import org.incendo.cloud.suggestion.PrefixIndexedSuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -38,6 +47,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import static com.google.common.truth.Truth.assertThat;
 import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
 import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
 import static org.incendo.cloud.util.TestUtils.createManager;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -86,4 +96,118 @@ class FilteringSuggestionProcessorTest {
                 arguments("test1 z", suggestionList("x y z a"))
         );
     }
+
+    @ParameterizedTest
+    @MethodSource
+    void testPrefixIndexedSuggestions(final FilteringSuggestionProcessor.Filter<TestCommandSender> filter,
+                                      final String input, final List<Suggestion> expected) {
+        // Arrange
+        this.commandManager.suggestionProcessor(new FilteringSuggestionProcessor<>(filter));
+        this.commandManager.command(this.commandManager.commandBuilder("give").required(
+                "item",
+                stringParser(),
+                PrefixIndexedSuggestionProvider.suggestingStrings(
+                        "stone",
+                        "Stone_Bricks",
+                        "sandstone"
+                )
+        ));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), input)
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expected);
+    }
+
+    static Stream<Arguments> testPrefixIndexedSuggestions() {
+        return Stream.of(
+                arguments(FilteringSuggestionProcessor.Filter.partialTokenMatches(true), "give sTo",
+                        suggestionList("stone", "Stone_Bricks")),
+                arguments(FilteringSuggestionProcessor.Filter.startsWith(false), "give Sto",
+                        suggestionList("Stone_Bricks")),
+                arguments(FilteringSuggestionProcessor.Filter.contains(true), "give ", suggestionList("stone", "Stone_Bricks",
+                        "sandstone")),
+                arguments(FilteringSuggestionProcessor.Filter.partialTokenMatches(true), "give tone",
+                        suggestionList())
+        );
+    }
+
+    @Test
+    void testCompiledFiltersMatchReference() {
+        // Arrange
+        final CommandPreprocessingContext<TestCommandSender> context = CommandPreprocessingContext.of(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                CommandInput.empty()
+        );
+        final Random random = new Random(42L);
+
+        for (int i = 0; i < 5000; i++) {
+            final String suggestion = randomString(random);
+            final String input = randomString(random);
+
+            for (final boolean ignoreCase : new boolean[] {true, false}) {
+                final boolean startsWith = ignoreCase
+                        ? suggestion.toLowerCase(Locale.ROOT).startsWith(input.toLowerCase(Locale.ROOT))
+                        : suggestion.startsWith(input);
+                final boolean contains = ignoreCase
+                        ? suggestion.toLowerCase(Locale.ROOT).contains(input.toLowerCase(Locale.ROOT))
+                        : suggestion.contains(input);
+
+                // Act & Assert
+                assertFilter(FilteringSuggestionProcessor.Filter.startsWith(ignoreCase), context, suggestion, input, startsWith);
+                assertFilter(FilteringSuggestionProcessor.Filter.contains(ignoreCase), context, suggestion, input, contains);
+                assertFilter(FilteringSuggestionProcessor.Filter.partialTokenMatches(ignoreCase), context, suggestion, input,
+                        referencePartialTokenMatches(suggestion, input, ignoreCase));
+            }
+        }
+    }
+
+    private static void assertFilter(
+            final FilteringSuggestionProcessor.Filter<TestCommandSender> filter,
+            final CommandPreprocessingContext<TestCommandSender> context,
+            final String suggestion,
+            final String input,
+            final boolean expected
+    ) {
+        final String expectedResult = expected ? suggestion : null;
+        assertThat(filter.filter(context, suggestion, input)).isEqualTo(expectedResult);
+        assertThat(filter.compile(context, input).filter(Suggestion.suggestion(suggestion))).isEqualTo(expectedResult);
+    }
+
+    private static String randomString(final Random random) {
+        final String alphabet = "aAbB  ";
+        final StringBuilder builder = new StringBuilder();
+        final int length = random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static boolean referencePartialTokenMatches(final String suggestion, final String input, final boolean ignoreCase) {
+        final List<String> suggestionTokens = new CommandInputTokenizer(suggestion).tokenize();
+        final List<String> inputTokens = new CommandInputTokenizer(input).tokenize();
+        for (String inputToken : inputTokens) {
+            if (ignoreCase) {
+                inputToken = inputToken.toLowerCase(Locale.ROOT);
+            }
+            boolean foundMatch = false;
+            for (final Iterator<String> iterator = suggestionTokens.iterator(); iterator.hasNext();) {
+                final String suggestionToken = iterator.next();
+                final String suggestionTokenLower = ignoreCase ? suggestionToken.toLowerCase(Locale.ROOT) : suggestionToken;
+                if (suggestionTokenLower.contains(inputToken)) {
+                    iterator.remove();
+                    foundMatch = true;
+                    break;
+                }
+            }
+            if (!foundMatch) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,167 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.execution;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+class SuggestionTimeoutTest {
+
+    private final CompletableFuture<List<Suggestion>> pending = new CompletableFuture<>();
+
+    @Test
+    void Suggest_ProviderTimeout_ReturnsPartialResults() throws Exception {
+        // Arrange
+        final ExecutionCoordinator<TestCommandSender> coordinator = ExecutionCoordinator.<TestCommandSender>builder()
+                .suggestionProviderTimeout(Duration.ofMillis(50))
+                .build();
+        final CommandManager<TestCommandSender> commandManager = this.createManager(coordinator);
+
+        // Act
+        final List<? extends Suggestion> suggestions = commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test ")
+                .get(5, TimeUnit.SECONDS)
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alpha", "beta"));
+        assertThat(this.timedOut(coordinator)).containsExactly("slow", 1L);
+    }
+
+    @Test
+    void Suggest_RequestTimeout_ReturnsPartialResults() throws Exception {
+        // Arrange
+        final ExecutionCoordinator<TestCommandSender> coordinator = ExecutionCoordinator.<TestCommandSender>builder()
+                .suggestionsTimeout(Duration.ofMillis(50))
+                .build();
+        final CommandManager<TestCommandSender> commandManager = this.createManager(coordinator);
+
+        // Act
+        final List<? extends Suggestion> suggestions = commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test ")
+                .get(5, TimeUnit.SECONDS)
+                .list();
+        this.pending.complete(suggestionList("late"));
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alpha", "beta"));
+        assertThat(this.timedOut(coordinator)).containsExactly("slow", 1L);
+    }
+
+    @Test
+    void Suggest_RequestTimeout_TraversalDoesNotModifyResult() throws Exception {
+        // Arrange
+        final ExecutionCoordinator<TestCommandSender> coordinator = ExecutionCoordinator.<TestCommandSender>builder()
+                .suggestionsTimeout(Duration.ofMillis(50))
+                .build();
+        final CommandManager<TestCommandSender> commandManager = this.createManager(coordinator);
+        final CompletableFuture<String> pendingParse = new CompletableFuture<>();
+        commandManager.command(
+                commandManager.commandBuilder("parse")
+                        .required("first", ParserDescriptor.of(
+                                (ArgumentParser.FutureArgumentParser<TestCommandSender, String>) (context, input) ->
+                                        pendingParse.thenApply(value -> ArgumentParseResult.success(input.readString())),
+                                String.class
+                        ))
+                        .required("second", stringParser(), (context, input) -> this.pending)
+        );
+
+        // Act
+        final Suggestions<TestCommandSender, ? extends Suggestion> suggestions = commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "parse foo b")
+                .get(5, TimeUnit.SECONDS);
+        final int cursor = suggestions.commandInput().cursor();
+        // The traversal resumes on this thread, after the request has timed out.
+        pendingParse.complete("foo");
+
+        // Assert
+        assertThat(suggestions.list()).isEmpty();
+        assertThat(suggestions.commandInput().cursor()).isEqualTo(cursor);
+        assertThat(suggestions.commandContext().contains("first")).isFalse();
+    }
+
+    @Test
+    void Suggest_ProviderCompletesInTime_ReturnsAllResults() throws Exception {
+        // Arrange
+        final ExecutionCoordinator<TestCommandSender> coordinator = ExecutionCoordinator.<TestCommandSender>builder()
+                .suggestionProviderTimeout(Duration.ofSeconds(5))
+                .build();
+        final CommandManager<TestCommandSender> commandManager = this.createManager(coordinator);
+        this.pending.complete(suggestionList("late"));
+
+        // Act
+        final List<? extends Suggestion> suggestions = commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test ")
+                .get(5, TimeUnit.SECONDS)
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alpha", "beta", "late"));
+        assertThat(coordinator.timedOutSuggestionProviders()).isEmpty();
+    }
+
+    private CommandManager<TestCommandSender> createManager(final ExecutionCoordinator<TestCommandSender> coordinator) {
+        final CommandRegistrationHandler<TestCommandSender> registrationHandler = (command) -> true;
+        final CommandManager<TestCommandSender> commandManager = new CommandManager<TestCommandSender>(
+                coordinator,
+                registrationHandler
+        ) {
+            @Override
+            public boolean hasPermission(final @NonNull TestCommandSender sender, final @NonNull String permission) {
+                return true;
+            }
+        };
+        commandManager.command(commandManager.commandBuilder("test").literal("alpha"));
+        commandManager.command(commandManager.commandBuilder("test").literal("beta"));
+        commandManager.command(
+                commandManager.commandBuilder("test")
+                        .required("slow", stringParser(), (context, input) -> this.pending)
+        );
+        return commandManager;
+    }
+
+    private Map<String, Long> timedOut(final ExecutionCoordinator<TestCommandSender> coordinator) {
+        final Map<String, Long> counts = new HashMap<>();
+        coordinator.timedOutSuggestionProviders().forEach((component, count) -> counts.put(component.name(), count));
+        return counts;
+    }
+}
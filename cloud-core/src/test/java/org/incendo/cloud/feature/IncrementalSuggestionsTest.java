@@ -0,0 +1,117 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.feature;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class IncrementalSuggestionsTest {
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final TestCommandSender sender = new TestCommandSender();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.settings().set(ManagerSetting.INCREMENTAL_SUGGESTIONS, true);
+
+        final ArgumentParser<TestCommandSender, String> countingParser = (context, input) -> {
+            this.parses.incrementAndGet();
+            return ArgumentParseResult.success(input.readString());
+        };
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("first", ParserDescriptor.of(countingParser, String.class))
+                        .required("second", stringParser(), SuggestionProvider.suggestingStrings("one", "two"))
+        );
+    }
+
+    @Test
+    void Suggest_ExtendedInput_ReusesParsedArguments() {
+        // Act
+        final List<? extends Suggestion> first = this.suggest("test foo ");
+        final List<? extends Suggestion> second = this.suggest("test foo o");
+        final List<? extends Suggestion> third = this.suggest("test foo on");
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("one", "two"));
+        assertThat(second).containsExactlyElementsIn(suggestionList("one", "two"));
+        assertThat(third).containsExactlyElementsIn(suggestionList("one"));
+        assertThat(this.parses.get()).isEqualTo(1);
+    }
+
+    @Test
+    void Suggest_ChangedArgument_ParsesAgain() {
+        // Act
+        this.suggest("test foo ");
+        this.suggest("test foox ");
+        this.suggest("test bar t");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(3);
+    }
+
+    @Test
+    void Suggest_Disabled_ParsesEveryRequest() {
+        // Arrange
+        this.commandManager.settings().set(ManagerSetting.INCREMENTAL_SUGGESTIONS, false);
+
+        // Act
+        this.suggest("test foo ");
+        this.suggest("test foo o");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Suggest_OtherSender_ParsesAgain() {
+        // Act
+        this.suggest("test foo ");
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test foo o");
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(2);
+    }
+
+    private List<? extends Suggestion> suggest(final String input) {
+        return this.commandManager.suggestionFactory().suggestImmediately(this.sender, input).list();
+    }
+}
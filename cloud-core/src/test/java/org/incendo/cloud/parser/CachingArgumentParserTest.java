@@ -0,0 +1,280 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser;
+
+import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.truth.ArgumentParseResultSubject.assertThat;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingArgumentParserTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private CommandManager<TestCommandSender> manager;
+    private CommandContext<TestCommandSender> context;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+        this.context = new CommandContext<>(new TestCommandSender(), this.manager);
+    }
+
+    @Test
+    void ParseFuture_SameToken_ReusesResultAndConsumesToken() {
+        // Arrange
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder().build(this.countingParser());
+        final CommandInput first = CommandInput.of("abc def");
+        final CommandInput second = CommandInput.of("abc ghi");
+
+        // Act
+        final ArgumentParseResult<String> firstResult = parser.parseFuture(this.context, first).join();
+        final ArgumentParseResult<String> secondResult = parser.parseFuture(this.context, second).join();
+
+        // Assert
+        assertThat(firstResult).hasParsedValue("abc1");
+        assertThat(secondResult).hasParsedValue("abc1");
+        assertThat(first.remainingInput()).isEqualTo(" def");
+        assertThat(second.remainingInput()).isEqualTo(" ghi");
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void ParseFuture_Expired_InvokesParserAgain() {
+        // Arrange
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder()
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .build(this.countingParser());
+        parser.parseFuture(this.context, CommandInput.of("abc")).join();
+
+        // Act
+        this.time.addAndGet(Duration.ofSeconds(10).toNanos());
+        final ArgumentParseResult<String> result = parser.parseFuture(this.context, CommandInput.of("abc")).join();
+
+        // Assert
+        assertThat(result).hasParsedValue("abc2");
+    }
+
+    @Test
+    void ParseFuture_MaximumSizeExceeded_EvictsLeastRecentlyUsed() {
+        // Arrange
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder()
+                .maximumSize(2)
+                .build(this.countingParser());
+
+        // Act
+        parser.parseFuture(this.context, CommandInput.of("a")).join();
+        parser.parseFuture(this.context, CommandInput.of("b")).join();
+        parser.parseFuture(this.context, CommandInput.of("a")).join();
+        parser.parseFuture(this.context, CommandInput.of("c")).join();
+        final ArgumentParseResult<String> a = parser.parseFuture(this.context, CommandInput.of("a")).join();
+        final ArgumentParseResult<String> b = parser.parseFuture(this.context, CommandInput.of("b")).join();
+
+        // Assert
+        assertThat(a).hasParsedValue("a1");
+        assertThat(b).hasParsedValue("b4");
+    }
+
+    @Test
+    void ParseFuture_Failure_OnlyCachedWhenEnabled() {
+        // Arrange
+        final ArgumentParser<TestCommandSender, String> failing = (ctx, input) -> {
+            this.invocations.incrementAndGet();
+            return ArgumentParseResult.failure(new IllegalArgumentException(input.peekString()));
+        };
+        final CachingArgumentParser<TestCommandSender, String> uncached = this.builder().build(failing);
+        final CachingArgumentParser<TestCommandSender, String> cached = this.builder()
+                .cacheFailures(Duration.ofSeconds(1))
+                .build(failing);
+
+        // Act
+        uncached.parseFuture(this.context, CommandInput.of("abc")).join();
+        uncached.parseFuture(this.context, CommandInput.of("abc")).join();
+        cached.parseFuture(this.context, CommandInput.of("abc")).join();
+        final ArgumentParseResult<String> result = cached.parseFuture(this.context, CommandInput.of("abc")).join();
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+        assertThat(this.invocations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void ParseFuture_SenderScoped_DoesNotShareBetweenSenders() {
+        // Arrange
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder()
+                .senderScoped()
+                .build(this.countingParser());
+        final CommandContext<TestCommandSender> otherContext = new CommandContext<>(new TestCommandSender(), this.manager);
+
+        // Act
+        parser.parseFuture(this.context, CommandInput.of("abc")).join();
+        final ArgumentParseResult<String> own = parser.parseFuture(this.context, CommandInput.of("abc")).join();
+        final ArgumentParseResult<String> other = parser.parseFuture(otherContext, CommandInput.of("abc")).join();
+
+        // Assert
+        assertThat(own).hasParsedValue("abc1");
+        assertThat(other).hasParsedValue("abc2");
+    }
+
+    @Test
+    void ParseFuture_ConcurrentSameToken_SharesInvocation() {
+        // Arrange
+        final CompletableFuture<ArgumentParseResult<String>> lookup = new CompletableFuture<>();
+        final ArgumentParser.FutureArgumentParser<TestCommandSender, String> slowParser = (ctx, input) -> {
+            this.invocations.incrementAndGet();
+            input.readString();
+            return lookup;
+        };
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder().build(slowParser);
+        final CommandInput first = CommandInput.of("abc def");
+        final CommandInput second = CommandInput.of("abc ghi");
+
+        // Act
+        final CompletableFuture<ArgumentParseResult<String>> firstResult = parser.parseFuture(this.context, first);
+        final CompletableFuture<ArgumentParseResult<String>> secondResult = parser.parseFuture(this.context, second);
+        lookup.complete(ArgumentParseResult.success("value"));
+
+        // Assert
+        assertThat(firstResult.join()).hasParsedValue("value");
+        assertThat(secondResult.join()).hasParsedValue("value");
+        assertThat(second.remainingInput()).isEqualTo(" ghi");
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void ParseFuture_ConcurrentFailure_NotSharedBetweenSenders() {
+        // Arrange
+        final CompletableFuture<ArgumentParseResult<String>> lookup = new CompletableFuture<>();
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder().build(this.pendingParser(lookup));
+        final CommandContext<TestCommandSender> otherContext = new CommandContext<>(new TestCommandSender(), this.manager);
+
+        // Act
+        parser.parseFuture(this.context, CommandInput.of("abc"));
+        final CompletableFuture<ArgumentParseResult<String>> other = parser.parseFuture(otherContext, CommandInput.of("abc"));
+        lookup.complete(ArgumentParseResult.failure(new IllegalArgumentException("abc")));
+
+        // Assert
+        assertThat(other.join()).hasParsedValue("abc");
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void ParseFuture_ConcurrentFailureSenderScoped_SharesInvocation() {
+        // Arrange
+        final CompletableFuture<ArgumentParseResult<String>> lookup = new CompletableFuture<>();
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder()
+                .senderScoped()
+                .build(this.pendingParser(lookup));
+
+        // Act
+        parser.parseFuture(this.context, CommandInput.of("abc"));
+        final CompletableFuture<ArgumentParseResult<String>> own = parser.parseFuture(this.context, CommandInput.of("abc"));
+        lookup.complete(ArgumentParseResult.failure(new IllegalArgumentException("abc")));
+
+        // Assert
+        assertThat(own.join().failure()).isPresent();
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void ParseFuture_ConsumesMoreThanToken_NotCached() {
+        // Arrange
+        final ArgumentParser<TestCommandSender, String> greedy = (ctx, input) -> {
+            this.invocations.incrementAndGet();
+            return ArgumentParseResult.success(input.readString() + input.readString());
+        };
+        final CachingArgumentParser<TestCommandSender, String> parser = this.builder().build(greedy);
+
+        // Act
+        parser.parseFuture(this.context, CommandInput.of("a b")).join();
+        final ArgumentParseResult<String> result = parser.parseFuture(this.context, CommandInput.of("a c")).join();
+
+        // Assert
+        assertThat(result).hasParsedValue("ac");
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Builder_NegativeDuration_ThrowsException() {
+        // Arrange
+        final CachingArgumentParser.Builder<TestCommandSender> builder = this.builder();
+        final Duration negative = Duration.ofSeconds(-1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterWrite(negative));
+        assertThrows(IllegalArgumentException.class, () -> builder.cacheFailures(negative));
+    }
+
+    @Test
+    void RegisterCachedParser_SharesCacheBetweenComponents() {
+        // Arrange
+        final ParserRegistry<TestCommandSender> registry = new StandardParserRegistry<>();
+        registry.registerCachedParser(ParserDescriptor.of(this.countingParser(), String.class), this.builder());
+
+        // Act
+        final ArgumentParser<TestCommandSender, String> first = registry.createParser(
+                TypeToken.get(String.class),
+                ParserParameters.empty()
+        ).get();
+        final ArgumentParser<TestCommandSender, String> second = registry.createParser(
+                TypeToken.get(String.class),
+                ParserParameters.empty()
+        ).get();
+
+        // Assert
+        assertThat(first).isInstanceOf(CachingArgumentParser.class);
+        assertThat(second).isSameInstanceAs(first);
+    }
+
+    private CachingArgumentParser.Builder<TestCommandSender> builder() {
+        return CachingArgumentParser.<TestCommandSender>builder().ticker(this.time::get);
+    }
+
+    private ArgumentParser.FutureArgumentParser<TestCommandSender, String> pendingParser(
+            final CompletableFuture<ArgumentParseResult<String>> lookup
+    ) {
+        return (ctx, input) -> {
+            if (this.invocations.incrementAndGet() == 1) {
+                return lookup;
+            }
+            return ArgumentParseResult.successFuture(input.readString());
+        };
+    }
+
+    private ArgumentParser<TestCommandSender, String> countingParser() {
+        return (ctx, input) -> ArgumentParseResult.success(input.readString() + this.invocations.incrementAndGet());
+    }
+}
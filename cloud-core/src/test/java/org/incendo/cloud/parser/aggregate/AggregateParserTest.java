@@ -25,6 +25,7 @@ package org.incendo.cloud.parser.aggregate;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
@@ -34,6 +35,7 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.context.StandardCommandContextFactory;
 import org.incendo.cloud.exception.parsing.ParserException;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.parser.standard.IntegerParser;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
@@ -231,6 +233,31 @@ class AggregateParserTest {
     }
 
 
+    @Test
+    void testParsingAsynchronousComponent() {
+        // Arrange
+        final AggregateParser<TestCommandSender, OutputType> parser = AggregateParser.<TestCommandSender>builder()
+                .withComponent("number", ParserDescriptor.of(
+                        IntegerParser.<TestCommandSender>integerParser().parser().flatMapSuccess(
+                                (ctx, number) -> CompletableFuture.supplyAsync(() -> ArgumentParseResult.success(number * 2))),
+                        Integer.class
+                ))
+                .withComponent("string", stringParser())
+                .withMapper(
+                        OutputType.class,
+                        (commandContext, context) -> ArgumentParseResult.successFuture(
+                                new OutputType(context.get("number"), context.get("string"))))
+                .build();
+        final CommandInput commandInput = CommandInput.of("10 abc def");
+
+        // Act
+        final ArgumentParseResult<OutputType> outputType = parser.parseFuture(this.commandContext, commandInput).join();
+
+        // Assert
+        assertThat(outputType).hasParsedValue(new OutputType(20, "abc"));
+        assertThat(commandInput.remainingInput()).isEqualTo(" def");
+    }
+
     private static final class OutputType {
 
         private final int number;
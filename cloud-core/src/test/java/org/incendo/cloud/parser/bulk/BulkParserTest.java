@@ -0,0 +1,240 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.bulk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.DefaultValue;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.ArgumentParseException;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.services.type.PartialResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.bulk.BulkParser.bulkParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkParserTest {
+
+    private final List<List<String>> requests = new ArrayList<>();
+    private final List<String> transfers = new ArrayList<>();
+    private CommandManager<TestCommandSender> manager;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+    }
+
+    @Test
+    void Execute_MultipleBulkArguments_ResolvesInSingleRequest() {
+        // Arrange
+        this.registerTransfer(this.accountParser(this.countingResolver()));
+
+        // Act
+        this.manager.commandExecutor().executeCommand(new TestCommandSender(), "transfer alice bob").join();
+
+        // Assert
+        assertThat(this.requests).containsExactly(Arrays.asList("alice", "bob"));
+        assertThat(this.transfers).containsExactly("Account(alice)->Account(bob)");
+    }
+
+    @Test
+    void Execute_DuplicateKeys_RequestsDistinctKeys() {
+        // Arrange
+        this.registerTransfer(this.accountParser(this.countingResolver()));
+
+        // Act
+        this.manager.commandExecutor().executeCommand(new TestCommandSender(), "transfer alice alice").join();
+
+        // Assert
+        assertThat(this.requests).containsExactly(Collections.singletonList("alice"));
+        assertThat(this.transfers).containsExactly("Account(alice)->Account(alice)");
+    }
+
+    @Test
+    void Execute_MissingValue_ThrowsArgumentParseException() {
+        // Arrange
+        this.registerTransfer(this.accountParser(this.countingResolver()));
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.manager.commandExecutor().executeCommand(new TestCommandSender(), "transfer alice unknown").join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(ArgumentParseException.class);
+        assertThat(exception).hasCauseThat().hasCauseThat().isInstanceOf(BulkParser.BulkParseException.class);
+        assertThat(((BulkParser.BulkParseException) exception.getCause().getCause()).input()).isEqualTo("unknown");
+        assertThat(this.transfers).isEmpty();
+    }
+
+    @Test
+    void Suggest_BulkArgument_DoesNotResolve() {
+        // Arrange
+        this.registerTransfer(this.accountParser(this.countingResolver()));
+
+        // Act
+        this.manager.suggestionFactory().suggestImmediately(new TestCommandSender(), "transfer alice b");
+
+        // Assert
+        assertThat(this.requests).isEmpty();
+    }
+
+    @Test
+    void Parse_CommandTree_StoresResolvedValues() {
+        // Arrange
+        this.registerTransfer(this.accountParser(this.countingResolver()));
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.manager);
+
+        // Act
+        this.manager.commandTree().parse(context, CommandInput.of("transfer alice bob"), Runnable::run).join();
+
+        // Assert
+        assertThat(this.requests).containsExactly(Arrays.asList("alice", "bob"));
+        assertThat(context.<String>get("from")).isEqualTo("Account(alice)");
+        assertThat(context.<String>get("to")).isEqualTo("Account(bob)");
+    }
+
+    @Test
+    void Execute_WrappedBulkParser_ResolvesValueWhenParsed() {
+        // Arrange
+        final ParserDescriptor<TestCommandSender, Integer> parser = ParserDescriptor.of(
+                this.accountParser(this.countingResolver()).parser().mapSuccess((context, value) -> CompletableFuture.completedFuture(value.length())),
+                Integer.class
+        );
+        this.manager.command(
+                this.manager.commandBuilder("length")
+                        .required("account", parser)
+                        .handler(context -> this.transfers.add(String.valueOf(context.<Integer>get("account"))))
+        );
+
+        // Act
+        this.manager.commandExecutor().executeCommand(new TestCommandSender(), "length alice").join();
+
+        // Assert
+        assertThat(this.requests).containsExactly(Collections.singletonList("alice"));
+        assertThat(this.transfers).containsExactly("14");
+    }
+
+    @Test
+    void Suggest_BulkArgument_DoesNotStoreValue() {
+        // Arrange
+        final List<Boolean> containsValue = new ArrayList<>();
+        this.manager.command(
+                this.manager.commandBuilder("transfer")
+                        .required("from", this.accountParser(this.countingResolver()))
+                        .required("to", stringParser(), (context, input) -> {
+                            containsValue.add(context.contains("from"));
+                            return CompletableFuture.completedFuture(Collections.emptyList());
+                        })
+        );
+
+        // Act
+        this.manager.suggestionFactory().suggestImmediately(new TestCommandSender(), "transfer alice b");
+
+        // Assert
+        assertThat(containsValue).containsExactly(false);
+        assertThat(this.requests).isEmpty();
+    }
+
+    @Test
+    void Execute_OptionalBulkArgumentWithConstantDefault_StoresDefault() {
+        // Arrange
+        final ParserDescriptor<TestCommandSender, String> parser = this.accountParser(this.countingResolver());
+        this.manager.command(
+                this.manager.commandBuilder("transfer")
+                        .required("from", parser)
+                        .optional("to", parser, DefaultValue.constant("Account(bank)"))
+                        .handler(context -> this.transfers.add(context.<String>get("from") + "->" + context.<String>get("to")))
+        );
+
+        // Act
+        this.manager.commandExecutor().executeCommand(new TestCommandSender(), "transfer alice").join();
+
+        // Assert
+        assertThat(this.requests).containsExactly(Collections.singletonList("alice"));
+        assertThat(this.transfers).containsExactly("Account(alice)->Account(bank)");
+    }
+
+    @Test
+    void Execute_PartialResultService_ResolvesValues() {
+        // Arrange
+        final PartialResultService<String, String, BulkRequest<String, String>> service = keys -> {
+            this.requests.add(new ArrayList<>(keys));
+            final Map<String, String> values = new HashMap<>();
+            keys.forEach(key -> values.put(key, "Account(" + key + ")"));
+            return values;
+        };
+        this.registerTransfer(this.accountParser(BulkResolver.of(service)));
+
+        // Act
+        this.manager.commandExecutor().executeCommand(new TestCommandSender(), "transfer alice bob").join();
+
+        // Assert
+        assertThat(this.requests).hasSize(1);
+        assertThat(this.transfers).containsExactly("Account(alice)->Account(bob)");
+    }
+
+    private BulkResolver<TestCommandSender, String, String> countingResolver() {
+        return (context, keys) -> {
+            this.requests.add(new ArrayList<>(keys));
+            final Map<String, String> values = new HashMap<>();
+            for (final String key : keys) {
+                if (!key.equals("unknown")) {
+                    values.put(key, "Account(" + key + ")");
+                }
+            }
+            return CompletableFuture.completedFuture(values);
+        };
+    }
+
+    private ParserDescriptor<TestCommandSender, String> accountParser(
+            final BulkResolver<TestCommandSender, String, String> resolver
+    ) {
+        return bulkParser(stringParser(), String.class, resolver);
+    }
+
+    private void registerTransfer(final ParserDescriptor<TestCommandSender, String> parser) {
+        this.manager.command(
+                this.manager.commandBuilder("transfer")
+                        .required("from", parser)
+                        .required("to", parser)
+                        .handler(context -> this.transfers.add(context.<String>get("from") + "->" + context.<String>get("to")))
+        );
+    }
+}
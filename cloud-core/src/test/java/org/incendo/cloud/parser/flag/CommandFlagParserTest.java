@@ -0,0 +1,154 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.flag;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.parser.standard.IntegerParser;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.truth.ArgumentParseResultSubject.assertThat;
+import static org.incendo.cloud.util.TestUtils.FAILING_PERMISSION;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class CommandFlagParserTest {
+
+    private CommandContext<TestCommandSender> context;
+
+    @BeforeEach
+    void setup() {
+        this.context = new CommandContext<>(new TestCommandSender(), createManager());
+    }
+
+    @Test
+    void ParseFuture_MixedCaseNameAndAlias_ResolvesFlags() {
+        // Arrange
+        final CommandFlagParser<TestCommandSender> parser = new CommandFlagParser<>(Arrays.asList(
+                CommandFlag.<TestCommandSender>builder("verbose").build(),
+                CommandFlag.<TestCommandSender>builder("count").withAliases("c").withComponent(integerParser()).build()
+        ));
+        final CommandInput input = CommandInput.of("--VERBOSE -C 5 rest");
+
+        // Act
+        final ArgumentParseResult<Object> result = parser.parseFuture(this.context, input).join();
+
+        // Assert
+        assertThat(result).hasParsedValue(CommandFlagParser.FLAG_PARSE_RESULT_OBJECT);
+        assertThat(this.context.flags().isPresent("verbose")).isTrue();
+        assertThat(this.context.flags().<Integer>getValue("count")).hasValue(5);
+        assertThat(input.remainingInput()).isEqualTo("rest");
+    }
+
+    @Test
+    void ParseFuture_CombinedAliases_AddsAllPresenceFlags() {
+        // Arrange
+        final CommandFlagParser<TestCommandSender> parser = new CommandFlagParser<>(Arrays.asList(
+                CommandFlag.<TestCommandSender>builder("all").withAliases("a").build(),
+                CommandFlag.<TestCommandSender>builder("brief").withAliases("b").build(),
+                CommandFlag.<TestCommandSender>builder("count").withAliases("c").withComponent(integerParser()).build()
+        ));
+
+        // Act
+        final ArgumentParseResult<Object> result = parser.parseFuture(this.context, CommandInput.of("-aBc")).join();
+
+        // Assert
+        assertThat(result).hasParsedValue(CommandFlagParser.FLAG_PARSE_RESULT_OBJECT);
+        assertThat(this.context.flags().isPresent("all")).isTrue();
+        assertThat(this.context.flags().isPresent("brief")).isTrue();
+        assertThat(this.context.flags().contains("count")).isFalse();
+    }
+
+    @Test
+    void ParseFuture_UnknownFlag_FailsWithUnknownFlag() {
+        // Arrange
+        final CommandFlagParser<TestCommandSender> parser = new CommandFlagParser<>(Arrays.asList(
+                CommandFlag.<TestCommandSender>builder("verbose").withAliases("v").build()
+        ));
+
+        // Act
+        final ArgumentParseResult<Object> result = parser.parseFuture(this.context, CommandInput.of("-x")).join();
+
+        // Assert
+        assertThat(result).hasFailureThat().isInstanceOf(CommandFlagParser.FlagParseException.class);
+        assertThat(((CommandFlagParser.FlagParseException) result.failure().get()).failureReason())
+                .isEqualTo(CommandFlagParser.FailureReason.UNKNOWN_FLAG);
+    }
+
+    @Test
+    void ParseFuture_AsynchronousValueParser_ParsesFollowingFlags() {
+        // Arrange
+        final ParserDescriptor<TestCommandSender, Integer> asyncParser = ParserDescriptor.of(
+                IntegerParser.<TestCommandSender>integerParser().parser().flatMapSuccess(
+                        (ctx, value) -> CompletableFuture.supplyAsync(() -> ArgumentParseResult.success(value + 1))),
+                Integer.class
+        );
+        final CommandFlagParser<TestCommandSender> parser = new CommandFlagParser<>(Arrays.asList(
+                CommandFlag.<TestCommandSender>builder("count").withComponent(asyncParser).build(),
+                CommandFlag.<TestCommandSender>builder("verbose").build()
+        ));
+
+        // Act
+        final ArgumentParseResult<Object> result =
+                parser.parseFuture(this.context, CommandInput.of("--count 1 --verbose")).join();
+
+        // Assert
+        assertThat(result).hasParsedValue(CommandFlagParser.FLAG_PARSE_RESULT_OBJECT);
+        assertThat(this.context.flags().<Integer>getValue("count")).hasValue(2);
+        assertThat(this.context.flags().isPresent("verbose")).isTrue();
+    }
+
+    @Test
+    void SuggestionsFuture_UsedFlags_SuggestsRemainingPermittedFlags() {
+        // Arrange
+        final CommandFlagParser<TestCommandSender> parser = new CommandFlagParser<>(Arrays.asList(
+                CommandFlag.<TestCommandSender>builder("all").withAliases("a").build(),
+                CommandFlag.<TestCommandSender>builder("brief").withAliases("b").build(),
+                CommandFlag.<TestCommandSender>builder("tag").withAliases("t").asRepeatable().build(),
+                CommandFlag.<TestCommandSender>builder("secret").withAliases("s").withPermission(FAILING_PERMISSION).build(),
+                CommandFlag.<TestCommandSender>builder("verbose").withAliases("v").build()
+        ));
+        final CommandInput input = CommandInput.of("cmd --ALL -bt ");
+        input.moveCursor(input.length());
+
+        // Act
+        final Iterable<Suggestion> suggestions = parser.suggestionsFuture(this.context, input).join();
+
+        // Assert
+        assertThat(suggestions).containsExactly(
+                Suggestion.suggestion("--tag"),
+                Suggestion.suggestion("--verbose"),
+                Suggestion.suggestion("-t"),
+                Suggestion.suggestion("-v")
+        ).inOrder();
+    }
+}
@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.flag;
+
+import java.util.Arrays;
+import org.incendo.cloud.TestCommandSender;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+class FlagContextTest {
+
+    private final CommandFlag<Void> presence = CommandFlag.<TestCommandSender>builder("presence").build();
+    private final CommandFlag<Integer> repeatable = CommandFlag.<TestCommandSender>builder("repeatable")
+            .withComponent(integerParser())
+            .asRepeatable()
+            .build();
+    private final CommandFlag<Integer> other = CommandFlag.<TestCommandSender>builder("other")
+            .withComponent(integerParser())
+            .build();
+
+    @Test
+    void AddPresenceFlag_Indexed_FlagIsPresent() {
+        // Arrange
+        final FlagContext flagContext = this.indexedContext();
+
+        // Act
+        flagContext.addPresenceFlag(this.presence);
+
+        // Assert
+        assertThat(flagContext.isPresent(this.presence)).isTrue();
+        assertThat(flagContext.parsed(this.presence)).isTrue();
+        assertThat(flagContext.count(this.presence)).isEqualTo(1);
+        assertThat(flagContext.hasFlag("repeatable")).isFalse();
+        assertThat(flagContext.getAll(this.repeatable)).isEmpty();
+    }
+
+    @Test
+    void AddValueFlag_IndexedRepeatable_KeepsAllValuesInOrder() {
+        // Arrange
+        final FlagContext flagContext = this.indexedContext();
+
+        // Act
+        flagContext.addValueFlag(this.repeatable, 1);
+        flagContext.addValueFlag(this.repeatable, 2);
+        flagContext.addValueFlag(this.repeatable, 3);
+
+        // Assert
+        assertThat(flagContext.get(this.repeatable)).isEqualTo(1);
+        assertThat(flagContext.getAll(this.repeatable)).containsExactly(1, 2, 3).inOrder();
+        assertThat(flagContext.count("repeatable")).isEqualTo(3);
+    }
+
+    @Test
+    void AddValueFlag_NotIndexed_StoredByName() {
+        // Arrange
+        final FlagContext flagContext = FlagContext.create();
+        flagContext.index(new FlagIndex(Arrays.asList(this.presence, this.repeatable)));
+
+        // Act
+        flagContext.addValueFlag(this.other, 5);
+
+        // Assert
+        assertThat(flagContext.getValue(this.other)).hasValue(5);
+        assertThat(flagContext.getAll(this.other)).containsExactly(5);
+    }
+
+    @Test
+    void Index_AfterValuesStored_IsIgnored() {
+        // Arrange
+        final FlagContext flagContext = FlagContext.create();
+        flagContext.addValueFlag(this.repeatable, 1);
+
+        // Act
+        flagContext.index(new FlagIndex(Arrays.asList(this.presence, this.repeatable, this.other)));
+        flagContext.addValueFlag(this.repeatable, 2);
+
+        // Assert
+        assertThat(flagContext.getAll(this.repeatable)).containsExactly(1, 2).inOrder();
+    }
+
+    private FlagContext indexedContext() {
+        final FlagContext flagContext = FlagContext.create();
+        flagContext.index(new FlagIndex(Arrays.asList(this.presence, this.repeatable, this.other)));
+        return flagContext;
+    }
+}
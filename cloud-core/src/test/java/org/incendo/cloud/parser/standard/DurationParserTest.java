@@ -24,16 +24,23 @@
 package org.incendo.cloud.parser.standard;
 
 import java.time.Duration;
+import java.util.Random;
 import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.CommandResult;
 import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.parser.ArgumentParseResult;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
 import static org.incendo.cloud.parser.standard.DurationParser.durationParser;
 import static org.incendo.cloud.util.TestUtils.createManager;
 
@@ -86,4 +93,68 @@ class DurationParserTest {
                 () -> manager.commandExecutor().executeCommand(new TestCommandSender(), "duration 1x").join()
         );
     }
+
+    @Test
+    void parse_overflow_failing() {
+        final DurationParser<TestCommandSender> parser = new DurationParser<>();
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), manager);
+
+        assertThat(parser.parse(context, CommandInput.of("99999999999999999999s")).failure()).isPresent();
+        assertThat(parser.parse(context, CommandInput.of("9223372036854775807s1s")).failure()).isPresent();
+        assertThat(parser.parse(context, CommandInput.of("106751991167301d")).failure()).isPresent();
+        assertThat(parser.parse(context, CommandInput.of("9223372036854775807s")).parsedValue())
+                .hasValue(Duration.ofSeconds(Long.MAX_VALUE));
+    }
+
+    @Test
+    void parse_random_input_matches_pattern() {
+        final DurationParser<TestCommandSender> parser = new DurationParser<>();
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), manager);
+        final char[] alphabet = {'0', '1', '2', '9', 'd', 'h', 'm', 's', 'x', 'D'};
+        final Random random = new Random(42L);
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            final String input = builder.toString();
+
+            final ArgumentParseResult<Duration> result = parser.parse(context, CommandInput.of(input));
+
+            final Duration expected = parseUsingPattern(input);
+            if (expected.isZero()) {
+                assertWithMessage(input).that(result.failure().isPresent()).isTrue();
+            } else {
+                assertWithMessage(input).that(result.parsedValue().orElse(null)).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * Reference implementation using the regular expression that the parser used to be implemented with.
+     */
+    private static Duration parseUsingPattern(final String input) {
+        final Matcher matcher = Pattern.compile("(([1-9][0-9]+|[1-9])[dhms])").matcher(input);
+        Duration duration = Duration.ZERO;
+        while (matcher.find()) {
+            final String group = matcher.group();
+            final long value = Long.parseLong(group.substring(0, group.length() - 1));
+            switch (group.charAt(group.length() - 1)) {
+                case 'd':
+                    duration = duration.plusDays(value);
+                    break;
+                case 'h':
+                    duration = duration.plusHours(value);
+                    break;
+                case 'm':
+                    duration = duration.plusMinutes(value);
+                    break;
+                default:
+                    duration = duration.plusSeconds(value);
+                    break;
+            }
+        }
+        return duration;
+    }
 }
@@ -23,10 +23,12 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.concurrent.CompletableFuture;
 import org.incendo.cloud.TestCommandSender;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.type.Either;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +92,40 @@ class EitherParserTest {
         assertThat(result).hasFailureThat().isInstanceOf(EitherParser.EitherParseException.class);
     }
 
+    @Test
+    void testParsingFailingRestoresInput() {
+        // Arrange
+        final CommandInput input = CommandInput.of("sausage 1");
+
+        // Act
+        final ArgumentParseResult<Either<Integer, Boolean>> result = this.parser.parseFuture(this.context, input).join();
+
+        // Assert
+        final EitherParser.EitherParseException exception = (EitherParser.EitherParseException) result.failure().get();
+        assertThat(exception.captionVariables()[0].value()).isEqualTo("sausage");
+        assertThat(input.remainingInput()).isEqualTo("sausage 1");
+    }
+
+    @Test
+    void testParsingAsynchronousFallback() {
+        // Arrange
+        final EitherParser<TestCommandSender, Integer, Boolean> parser = new EitherParser<>(
+                IntegerParser.integerParser(1, 3),
+                ParserDescriptor.of(
+                        BooleanParser.<TestCommandSender>booleanParser(false).parser().flatMapSuccess(
+                                (ctx, value) -> CompletableFuture.supplyAsync(() -> ArgumentParseResult.success(!value))),
+                        Boolean.class
+                )
+        );
+        final CommandInput input = CommandInput.of("false");
+
+        // Act
+        final ArgumentParseResult<Either<Integer, Boolean>> result = parser.parseFuture(this.context, input).join();
+
+        // Assert
+        assertThat(result).hasParsedValue(Either.ofFallback(true));
+    }
+
     @Test
     void testSuggestions() {
         // Act
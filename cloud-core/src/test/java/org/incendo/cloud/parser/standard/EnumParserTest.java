@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -102,6 +103,59 @@ class EnumParserTest {
         assertThat(suggestions).containsExactlyElementsIn(ArgumentTestHelper.suggestionList("aaa", "bbb", "ccc"));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"bbb", "BbB", "BBB"})
+    void Parse_MixedCase_SuccessfulParse(final String input) {
+        // Arrange
+        final EnumParser<TestCommandSender, TestEnum> parser = new EnumParser<>(
+                TestEnum.class
+        );
+
+        // Act
+        final ArgumentParseResult<TestEnum> result = parser.parse(
+                this.context,
+                CommandInput.of(input)
+        );
+
+        // Assert
+        assertThat(result).hasParsedValue(TestEnum.BBB);
+    }
+
+    @Test
+    void Parse_NonAsciiNames_MatchesIgnoringCase() {
+        // Arrange
+        final EnumParser<TestCommandSender, NonAsciiEnum> parser = new EnumParser<>(
+                NonAsciiEnum.class
+        );
+
+        // Act
+        final ArgumentParseResult<NonAsciiEnum> result = parser.parse(
+                this.context,
+                CommandInput.of("i")
+        );
+
+        // Assert
+        assertThat(result).hasParsedValue(NonAsciiEnum.\u0130);
+    }
+
+    @Test
+    void Suggestions_SharedBetweenParsers() {
+        // Arrange
+        final EnumParser<TestCommandSender, TestEnum> first = new EnumParser<>(TestEnum.class);
+        final EnumParser<TestCommandSender, TestEnum> second = new EnumParser<>(TestEnum.class);
+
+        // Act
+        final Iterable<Suggestion> firstSuggestions = first.suggestions(this.context, CommandInput.empty());
+        final Iterable<Suggestion> secondSuggestions = second.suggestions(this.context, CommandInput.empty());
+
+        // Assert
+        assertThat(firstSuggestions).isSameInstanceAs(secondSuggestions);
+    }
+
+    enum NonAsciiEnum {
+        \u0130
+    }
+
     enum TestEnum {
         AAA,
         BBB,
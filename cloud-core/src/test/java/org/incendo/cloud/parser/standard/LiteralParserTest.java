@@ -23,13 +23,73 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.truth.ArgumentParseResultSubject.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+@ExtendWith(MockitoExtension.class)
 class LiteralParserTest {
 
+    @Mock
+    private CommandContext<TestCommandSender> context;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"teleport", "TELEPORT", "tp", "Tp", "\u0130", "i"})
+    void Parse_Alias_ReturnsName(final String input) {
+        // Arrange
+        final LiteralParser<TestCommandSender> parser = this.parser();
+        final CommandInput commandInput = CommandInput.of(input + " rest");
+
+        // Act
+        final ArgumentParseResult<String> result = parser.parse(this.context, commandInput);
+
+        // Assert
+        assertThat(result).hasParsedValue("teleport");
+        assertThat(commandInput.remainingInput()).isEqualTo(" rest");
+    }
+
+    @Test
+    void Parse_Mismatch_StacklessFailure() {
+        // Arrange
+        final LiteralParser<TestCommandSender> parser = this.parser();
+        final CommandInput commandInput = CommandInput.of("tele rest");
+
+        // Act
+        final ArgumentParseResult<String> result = parser.parse(this.context, commandInput);
+
+        // Assert
+        assertThat(result.failure()).isPresent();
+        assertThat(result.failure().get()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(result.failure().get()).hasMessageThat().isEqualTo("tele");
+        assertThat(result.failure().get().getStackTrace()).isEmpty();
+        assertThat(commandInput.remainingInput()).isEqualTo("tele rest");
+    }
+
+    @Test
+    void Parse_InsertedAlias_ReturnsName() {
+        // Arrange
+        final LiteralParser<TestCommandSender> parser = this.parser();
+        parser.insertAlias("Warp");
+
+        // Act
+        final ArgumentParseResult<String> result = parser.parse(this.context, CommandInput.of("wARP"));
+
+        // Assert
+        assertThat(result).hasParsedValue("teleport");
+        assertThat(parser.aliases()).containsExactly("teleport", "tp", "\u0130", "Warp");
+    }
+
     @Test
     void testInvalidName() {
         final IllegalArgumentException thr = assertThrows(IllegalArgumentException.class, () -> {
@@ -43,4 +103,10 @@ class LiteralParserTest {
                         "alias' is invalid: contains whitespace"
         );
     }
+
+    @SuppressWarnings("unchecked")
+    private LiteralParser<TestCommandSender> parser() {
+        return (LiteralParser<TestCommandSender>) LiteralParser.<TestCommandSender>literal("teleport", "tp", "\u0130")
+                .parser();
+    }
 }
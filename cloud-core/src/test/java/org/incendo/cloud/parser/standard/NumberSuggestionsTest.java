@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.parser.standard;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.incendo.cloud.type.range.Range;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberSuggestionsTest {
+
+    @Test
+    void Of_PositiveInput_SuggestsAppendedDigitsWithinRange() {
+        // Act
+        final Iterable<String> suggestions = NumberSuggestions.of(Range.intRange(0, 125), "12");
+
+        // Assert
+        assertThat(suggestions).containsExactly("12", "120", "121", "122", "123", "124", "125").inOrder();
+    }
+
+    @Test
+    void Of_NegativeInput_SuggestsNegativeNumbersWithinRange() {
+        // Act
+        final Iterable<String> suggestions = NumberSuggestions.of(Range.intRange(-13, 10), "-1");
+
+        // Assert
+        assertThat(suggestions).containsExactly("-1", "-10", "-11", "-12", "-13").inOrder();
+    }
+
+    @Test
+    void Of_ZeroInput_DoesNotRepeatZero() {
+        // Act
+        final Iterable<String> suggestions = NumberSuggestions.of(Range.intRange(0, 3), "0");
+
+        // Assert
+        assertThat(suggestions).containsExactly("0", "1", "2", "3").inOrder();
+    }
+
+    @Test
+    void Of_InvalidInput_NoSuggestions() {
+        // Act & Assert
+        assertThat(NumberSuggestions.of(Range.intRange(0, 10), "abc")).isEmpty();
+        assertThat(NumberSuggestions.of(Range.intRange(0, 10), "+")).isEmpty();
+        assertThat(NumberSuggestions.of(Range.longRange(Long.MIN_VALUE, Long.MAX_VALUE), "99999999999999999999")).isEmpty();
+    }
+
+    @Test
+    void Of_LargestLong_SuggestsOnlyInput() {
+        // Act
+        final Iterable<String> suggestions = NumberSuggestions.of(
+                Range.longRange(Long.MIN_VALUE, Long.MAX_VALUE),
+                Long.toString(Long.MAX_VALUE)
+        );
+
+        // Assert
+        assertThat(suggestions).containsExactly(Long.toString(Long.MAX_VALUE));
+    }
+
+    @Test
+    void Iterator_Exhausted_ThrowsNoSuchElementException() {
+        // Arrange
+        final Iterator<String> iterator = NumberSuggestions.of(Range.intRange(5, 5), "5").iterator();
+
+        // Act
+        final String first = iterator.next();
+
+        // Assert
+        assertThat(first).isEqualTo("5");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
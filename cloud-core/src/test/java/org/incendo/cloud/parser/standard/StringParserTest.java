@@ -23,21 +23,29 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.incendo.cloud.TestCommandSender;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.util.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
 import static org.incendo.cloud.truth.ArgumentParseResultSubject.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 class StringParserTest {
 
+    private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
+
     @Mock
     private CommandContext<TestCommandSender> context;
 
@@ -92,4 +100,79 @@ class StringParserTest {
         assertThat(result).hasParsedValue("this is a string");
         assertThat(commandInput.remainingInput()).isEqualTo("-f -l -a -g");
     }
+
+    @Test
+    void Parse_QuotedBothQuoteKinds_UsesFirstQuotedString() {
+        // Arrange
+        final StringParser<TestCommandSender> parser = new StringParser<>(StringParser.StringMode.QUOTED);
+        final CommandInput commandInput = CommandInput.of("'a' \"'a\"");
+
+        // Act
+        final ArgumentParseResult<String> result = parser.parse(
+                this.context,
+                commandInput
+        );
+
+        // Assert
+        assertThat(result).hasParsedValue("a");
+        assertThat(commandInput.remainingInput()).isEqualTo(" \"'a\"");
+    }
+
+    @Test
+    void Parse_QuotedRandomInput_MatchesPatternBasedParsing() {
+        final StringParser<TestCommandSender> parser = new StringParser<>(StringParser.StringMode.QUOTED);
+        final char[] alphabet = {'"', '\'', '\\', ' ', 'a', 'b'};
+        final Random random = new Random(42L);
+        for (int i = 0; i < 20_000; i++) {
+            // Arrange
+            final StringBuilder builder = new StringBuilder().append(random.nextBoolean() ? '"' : '\'');
+            final int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            final String input = builder.toString();
+            final CommandInput commandInput = CommandInput.of(input);
+            final CommandInput expectedInput = CommandInput.of(input);
+
+            // Act
+            final ArgumentParseResult<String> result = parser.parse(this.context, commandInput);
+            final String expected = parseQuotedUsingPatterns(expectedInput);
+
+            // Assert
+            if (expected == null) {
+                assertWithMessage(input).that(result.failure().isPresent()).isTrue();
+            } else {
+                assertWithMessage(input).that(result.parsedValue().orElse(null)).isEqualTo(expected);
+            }
+            assertWithMessage(input).that(commandInput.remainingInput()).isEqualTo(expectedInput.remainingInput());
+        }
+    }
+
+    /**
+     * Reference implementation of quoted parsing for input starting with a quote, using the regular expressions that
+     * the scanners in {@link org.incendo.cloud.util.StringUtils} replace.
+     */
+    private static String parseQuotedUsingPatterns(final CommandInput commandInput) {
+        final String string = commandInput.remainingInput();
+        final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
+        final Matcher singleMatcher = QUOTED_SINGLE.matcher(string);
+        final boolean doubleFound = doubleMatcher.find();
+        final boolean singleFound = singleMatcher.find();
+
+        String inner = null;
+        if (doubleFound && (!singleFound || doubleMatcher.start() < singleMatcher.start())) {
+            inner = doubleMatcher.group("inner");
+        } else if (singleFound) {
+            inner = singleMatcher.group("inner");
+        }
+
+        if (inner == null) {
+            return null;
+        }
+        final int numSpaces = StringUtils.countCharOccurrences(inner, ' ');
+        for (int i = 0; i <= numSpaces; i++) {
+            commandInput.readString();
+        }
+        return inner.replace("\\\"", "\"").replace("\\'", "'");
+    }
 }
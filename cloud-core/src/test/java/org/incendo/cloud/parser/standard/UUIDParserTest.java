@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.parser.standard;
 
+import java.util.Locale;
 import java.util.UUID;
 import org.incendo.cloud.TestCommandSender;
 import org.incendo.cloud.context.CommandContext;
@@ -31,6 +32,8 @@ import org.incendo.cloud.parser.ArgumentParseResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -84,4 +87,44 @@ class UUIDParserTest {
                 this.context
         ));
     }
+
+    @Test
+    void Parse_UpperCaseUUID_SuccessfulParse() {
+        // Arrange
+        final UUID inputUUID = UUID.randomUUID();
+        final CommandInput commandInput = CommandInput.of(inputUUID.toString().toUpperCase(Locale.ROOT));
+
+        // Act
+        final ArgumentParseResult<UUID> result = this.parser.parse(
+                this.context,
+                commandInput
+        );
+
+        // Assert
+        assertThat(result).hasParsedValue(inputUUID);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1-2-3-4-5",
+            "123e4567-e89b-12d3-a456-42661417400",
+            "123e4567-e89b-12d3-a456-4266141740000",
+            "123e4567e89b-12d3-a456-4266141740000",
+            "123e4567-e89b-12d3-a456-42661417400g",
+            "+23e4567-e89b-12d3-a456-426614174000",
+            "123e4567-e89b-12d3-a456-4266141740\uff10\uff10"
+    })
+    void Parse_NonCanonicalUUID_FailedParse(final String input) {
+        // Act
+        final ArgumentParseResult<UUID> result = this.parser.parse(
+                this.context,
+                CommandInput.of(input)
+        );
+
+        // Assert
+        assertThat(result).hasFailure(new UUIDParser.UUIDParseException(
+                input,
+                this.context
+        ));
+    }
 }
@@ -0,0 +1,204 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSuggestionProviderTest {
+
+    @Mock
+    private CommandContext<TestCommandSender> context;
+
+    private AtomicInteger invocations;
+    private SuggestionProvider<TestCommandSender> delegate;
+
+    @BeforeEach
+    void setup() {
+        this.invocations = new AtomicInteger();
+        this.delegate = SuggestionProvider.blockingStrings((ctx, input) -> {
+            this.invocations.incrementAndGet();
+            return Arrays.asList("world", "world_nether", "world_the_end");
+        });
+    }
+
+    @Test
+    void SuggestionsFuture_SameInput_ServedFromCache() {
+        // Arrange
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.builder(this.delegate).build();
+
+        // Act
+        final List<Suggestion> first = provider.suggestionsFuture(this.context, CommandInput.of("wor")).join();
+        final List<Suggestion> second = provider.suggestionsFuture(this.context, CommandInput.of("wor")).join();
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("world", "world_nether", "world_the_end")).inOrder();
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(this.invocations.get()).isEqualTo(1);
+        assertThat(provider.statistics().hitCount()).isEqualTo(1);
+        assertThat(provider.statistics().missCount()).isEqualTo(1);
+        assertThat(provider.statistics().hitRate()).isEqualTo(0.5D);
+    }
+
+    @Test
+    void SuggestionsFuture_DifferentInput_InvokesDelegate() {
+        // Arrange
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.builder(this.delegate).build();
+
+        // Act
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("wo")).join();
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+        assertThat(provider.size()).isEqualTo(2);
+    }
+
+    @Test
+    void SuggestionsFuture_SenderScoped_SeparatesSenders() {
+        // Arrange
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.builder(this.delegate)
+                .senderScoped()
+                .build();
+        final TestCommandSender first = new TestCommandSender();
+        final TestCommandSender second = new TestCommandSender();
+
+        // Act
+        when(this.context.sender()).thenReturn(first);
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+        when(this.context.sender()).thenReturn(second);
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void SuggestionsFuture_Expired_InvokesDelegate() {
+        // Arrange
+        final AtomicLong time = new AtomicLong();
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.builder(this.delegate)
+                .expireAfterWrite(Duration.ofSeconds(5))
+                .ticker(time::get)
+                .build();
+
+        // Act
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+        time.set(Duration.ofSeconds(4).toNanos());
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+        time.set(Duration.ofSeconds(5).toNanos());
+        provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void SuggestionsFuture_MaximumSizeExceeded_EvictsLeastRecentlyUsed() {
+        // Arrange
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.builder(this.delegate)
+                .maximumSize(2)
+                .build();
+
+        // Act
+        provider.suggestionsFuture(this.context, CommandInput.of("a")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("b")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("a")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("c")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("a")).join();
+        provider.suggestionsFuture(this.context, CommandInput.of("b")).join();
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(4);
+        assertThat(provider.size()).isEqualTo(2);
+        assertThat(provider.statistics().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void SuggestionsFuture_PendingLookup_SharesFuture() {
+        // Arrange
+        final CompletableFuture<List<Suggestion>> pending = new CompletableFuture<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.<TestCommandSender>builder(
+                (ctx, input) -> {
+                    calls.incrementAndGet();
+                    return pending;
+                }
+        ).build();
+
+        // Act
+        final CompletableFuture<List<Suggestion>> first = provider.suggestionsFuture(this.context, CommandInput.of("w"));
+        final CompletableFuture<List<Suggestion>> second = provider.suggestionsFuture(this.context, CommandInput.of("w"));
+        pending.complete(suggestionList("world"));
+
+        // Assert
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo(suggestionList("world"));
+        assertThat(second.join()).isEqualTo(suggestionList("world"));
+    }
+
+    @Test
+    void SuggestionsFuture_FailedLookup_NotCached() {
+        // Arrange
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingSuggestionProvider<TestCommandSender> provider = CachingSuggestionProvider.<TestCommandSender>builder(
+                (ctx, input) -> {
+                    final CompletableFuture<List<Suggestion>> future = new CompletableFuture<>();
+                    if (calls.getAndIncrement() == 0) {
+                        future.completeExceptionally(new IllegalStateException());
+                    } else {
+                        future.complete(suggestionList("world"));
+                    }
+                    return future;
+                }
+        ).build();
+
+        // Act
+        final CompletableFuture<List<Suggestion>> failed = provider.suggestionsFuture(this.context, CommandInput.of("w"));
+        final List<Suggestion> result = provider.suggestionsFuture(this.context, CommandInput.of("w")).join();
+
+        // Assert
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(result).isEqualTo(suggestionList("world"));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,84 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.parser.standard.LiteralParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class ConcurrentSuggestionsTest {
+
+    private final CompletableFuture<List<Suggestion>> literalSuggestions = new CompletableFuture<>();
+    private final CompletableFuture<List<Suggestion>> dynamicSuggestions = new CompletableFuture<>();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test").argument(
+                        CommandComponent.<TestCommandSender, String>builder()
+                                .name("alpha")
+                                .parser(LiteralParser.literal("alpha"))
+                                .suggestionProvider((context, input) -> {
+                                    this.invocations.incrementAndGet();
+                                    return this.literalSuggestions;
+                                })
+                )
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test").required("value", stringParser(), (context, input) -> {
+                    this.invocations.incrementAndGet();
+                    return this.dynamicSuggestions;
+                })
+        );
+    }
+
+    @Test
+    void Suggest_SiblingProviders_LaunchedConcurrentlyAndMergedInOrder() {
+        // Act
+        final CompletableFuture<? extends Suggestions<TestCommandSender, ?>> future =
+                this.commandManager.suggestionFactory().suggest(new TestCommandSender(), "test ");
+        final int invokedBeforeCompletion = this.invocations.get();
+        this.dynamicSuggestions.complete(suggestionList("value"));
+        this.literalSuggestions.complete(suggestionList("alpha"));
+        final List<? extends Suggestion> suggestions = future.join().list();
+
+        // Assert
+        assertThat(invokedBeforeCompletion).isEqualTo(2);
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alpha", "value")).inOrder();
+    }
+}
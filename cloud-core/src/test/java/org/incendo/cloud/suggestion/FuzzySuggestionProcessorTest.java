@@ -0,0 +1,189 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class FuzzySuggestionProcessorTest {
+
+    private static final List<Suggestion> SUGGESTIONS = suggestionList(
+            "teleport",
+            "tell",
+            "Team",
+            "time",
+            "weather",
+            "gamemode",
+            "give"
+    );
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void Process_Input_RanksByDistance(final String input, final List<Suggestion> expected) {
+        // Arrange
+        final FuzzySuggestionProcessor<TestCommandSender> processor = new FuzzySuggestionProcessor<>(1, 10, true);
+
+        // Act
+        final List<Suggestion> suggestions = processor.process(this.context(input), SUGGESTIONS.stream())
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    static Stream<Arguments> Process_Input_RanksByDistance() {
+        return Stream.of(
+                arguments("", SUGGESTIONS),
+                arguments("tel", suggestionList("teleport", "tell", "Team")),
+                arguments("tlel", suggestionList("teleport", "tell")),
+                arguments("wehater", suggestionList()),
+                arguments("weahter", suggestionList("weather")),
+                arguments("gvie", suggestionList("give")),
+                arguments("TEAM", suggestionList("Team")),
+                arguments("xyz", suggestionList())
+        );
+    }
+
+    @Test
+    void Process_Limit_KeepsBestCandidates() {
+        // Arrange
+        final FuzzySuggestionProcessor<TestCommandSender> processor = new FuzzySuggestionProcessor<>(2, 2, true);
+
+        // Act
+        final List<Suggestion> suggestions = processor.process(this.context("tim"), SUGGESTIONS.stream())
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("time", "teleport")).inOrder();
+    }
+
+    @Test
+    void Process_CaseSensitive_CountsCaseAsEdit() {
+        // Arrange
+        final FuzzySuggestionProcessor<TestCommandSender> processor = new FuzzySuggestionProcessor<>(0, 10, false);
+
+        // Act
+        final List<Suggestion> suggestions = processor.process(this.context("te"), SUGGESTIONS.stream())
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("teleport", "tell")).inOrder();
+    }
+
+    @Test
+    void Distance_RandomInputs_MatchesReference() {
+        // Arrange
+        final Random random = new Random(42L);
+
+        for (int i = 0; i < 20000; i++) {
+            final int maxDistance = random.nextInt(4);
+            final FuzzySuggestionProcessor<TestCommandSender> processor =
+                    new FuzzySuggestionProcessor<>(maxDistance, 1, false);
+            // Occasionally exceed the width of the bit-parallel matcher
+            final String input = randomString(random, random.nextInt(10) == 0 ? 80 : 8);
+            final String text = randomString(random, input.length() + 4);
+
+            // Act
+            final int distance = processor.distance(input, text);
+
+            // Assert
+            final int expected = referenceDistance(input, text);
+            if (expected <= maxDistance) {
+                assertThat(distance).isEqualTo(expected);
+            } else {
+                assertThat(distance).isGreaterThan(maxDistance);
+            }
+        }
+    }
+
+    private CommandPreprocessingContext<TestCommandSender> context(final String input) {
+        return CommandPreprocessingContext.of(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                CommandInput.of(input)
+        );
+    }
+
+    private static String randomString(final Random random, final int maxLength) {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            // Small alphabet to produce plenty of matches and transpositions, with some non-ASCII characters
+            chars[i] = "abcé".charAt(random.nextInt(4));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Minimum optimal string alignment distance between {@code input} and any prefix of {@code text}.
+     */
+    private static int referenceDistance(final String input, final String text) {
+        final int m = input.length();
+        final int n = text.length();
+        final int[][] d = new int[m + 1][n + 1];
+        for (int i = 0; i <= m; i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= n; j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= m; i++) {
+            for (int j = 1; j <= n; j++) {
+                final int cost = input.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && input.charAt(i - 1) == text.charAt(j - 2)
+                        && input.charAt(i - 2) == text.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j <= n; j++) {
+            best = Math.min(best, d[m][j]);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@ExtendWith(MockitoExtension.class)
+class PrefixIndexedSuggestionProviderTest {
+
+    private static final PrefixIndexedSuggestionProvider<TestCommandSender> PROVIDER =
+            PrefixIndexedSuggestionProvider.suggestingStrings(
+                    "stone",
+                    "Stone_Bricks",
+                    "sand",
+                    "sandstone",
+                    "oak_log",
+                    "red_sand"
+            );
+
+    @Mock
+    private CommandContext<TestCommandSender> context;
+
+    @ParameterizedTest
+    @MethodSource
+    void Suggestions_Prefix_ReturnsMatchingRange(final String input, final List<Suggestion> expected) {
+        // Act
+        final List<Suggestion> suggestions = PROVIDER.suggestions(this.context, CommandInput.of(input));
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    static Stream<Arguments> Suggestions_Prefix_ReturnsMatchingRange() {
+        return Stream.of(
+                arguments("", suggestionList("oak_log", "red_sand", "sand", "sandstone", "stone", "Stone_Bricks")),
+                arguments("s", suggestionList("sand", "sandstone", "stone", "Stone_Bricks")),
+                arguments("ST", suggestionList("stone", "Stone_Bricks")),
+                arguments("stone", suggestionList("stone", "Stone_Bricks")),
+                arguments("stone_", suggestionList("Stone_Bricks")),
+                arguments("  sands", suggestionList("sandstone")),
+                arguments("z", suggestionList()),
+                arguments("0", suggestionList())
+        );
+    }
+
+    @Test
+    void Matching_LargeSet_ReturnsOnlyMatches() {
+        // Arrange
+        final PrefixIndexedSuggestionProvider<TestCommandSender> provider = PrefixIndexedSuggestionProvider.suggestingStrings(
+                IntStream.range(0, 20_000).mapToObj(i -> "item_" + i).collect(Collectors.toList())
+        );
+
+        // Act
+        final List<Suggestion> suggestions = provider.matching("item_1999");
+
+        // Assert
+        assertThat(provider.size()).isEqualTo(20_000);
+        assertThat(suggestions).containsExactlyElementsIn(
+                suggestionList("item_1999", "item_19990", "item_19991", "item_19992", "item_19993", "item_19994",
+                        "item_19995", "item_19996", "item_19997", "item_19998", "item_19999")
+        ).inOrder();
+    }
+}
@@ -0,0 +1,119 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class SuggestionLimitTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private AtomicInteger pulled;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.pulled = new AtomicInteger();
+        this.commandManager.command(this.commandManager.commandBuilder("test").required(
+                "value",
+                stringParser(),
+                SuggestionProvider.blocking((ctx, input) -> () -> new Iterator<Suggestion>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.next < 1_000_000;
+                    }
+
+                    @Override
+                    public Suggestion next() {
+                        SuggestionLimitTest.this.pulled.incrementAndGet();
+                        return Suggestion.suggestion(Integer.toString(this.next++));
+                    }
+                })
+        ));
+    }
+
+    @Test
+    void Suggest_Limit_StopsPullingSuggestions() {
+        // Arrange
+        this.commandManager.suggestionLimit(5);
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "test ")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("0", "1", "2", "3", "4")).inOrder();
+        assertThat(this.pulled.get()).isEqualTo(5);
+    }
+
+    @Test
+    void Suggest_Limit_AppliedAfterFiltering() {
+        // Arrange
+        this.commandManager.suggestionLimit(3);
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "test 99")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("99", "199", "299")).inOrder();
+        assertThat(this.pulled.get()).isEqualTo(300);
+    }
+
+    @Test
+    void Suggest_Limit_ExposedToProviders() {
+        // Arrange
+        this.commandManager.suggestionLimit(10);
+        this.commandManager.command(this.commandManager.commandBuilder("limit").required(
+                "value",
+                stringParser(),
+                SuggestionProvider.blockingStrings((ctx, input) -> Collections.singletonList(
+                        ctx.get(SuggestionProvider.SUGGESTION_LIMIT_KEY).toString()
+                ))
+        ));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "limit ")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("10"));
+    }
+}
@@ -0,0 +1,116 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.util;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+class StringUtilsTest {
+
+    private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
+    private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
+
+    private static final char[] QUOTED_ALPHABET = {'"', '\'', '\\', ' ', 'a', 'b', '\n', ' '};
+    private static final char[] FLAG_ALPHABET = {'-', '-', 'a', 'Z', '0', '_', ' ', '.', 'é'};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-f", "--", "---", "--flag", "--flag-name_2", "-_", "-0"})
+    void IsPotentialFlag_Flag_ReturnsTrue(final String token) {
+        assertThat(StringUtils.isPotentialFlag(token)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "f", "-fl", "-f-", "--fl ag", "--fl.ag", "-é", "a--"})
+    void IsPotentialFlag_NotFlag_ReturnsFalse(final String token) {
+        assertThat(StringUtils.isPotentialFlag(token)).isFalse();
+    }
+
+    @Test
+    void IsPotentialFlag_RandomInput_MatchesPattern() {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 50_000; i++) {
+            final String token = randomString(random, FLAG_ALPHABET, 6);
+            assertWithMessage(token)
+                    .that(StringUtils.isPotentialFlag(token))
+                    .isEqualTo(FLAG_PATTERN.matcher(token).matches());
+        }
+    }
+
+    @Test
+    void FindQuoted_EscapedQuotes_SkipsEscapes() {
+        // Arrange
+        final String string = "\"a \\\"b\\\" c\" d";
+
+        // Act
+        final int start = StringUtils.findQuoted(string, '"');
+
+        // Assert
+        assertThat(start).isEqualTo(0);
+        assertThat(string.substring(start + 1, StringUtils.closingQuote(string, start))).isEqualTo("a \\\"b\\\" c");
+    }
+
+    @Test
+    void FindQuoted_Unterminated_ReturnsMinusOne() {
+        assertThat(StringUtils.findQuoted("\"abc \\\" def", '"')).isEqualTo(-1);
+        assertThat(StringUtils.closingQuote("\"abc \\\" def", 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void FindQuoted_RandomInput_MatchesPattern() {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 50_000; i++) {
+            final String string = randomString(random, QUOTED_ALPHABET, 12);
+            assertMatchesPattern(string, '"', QUOTED_DOUBLE);
+            assertMatchesPattern(string, '\'', QUOTED_SINGLE);
+        }
+    }
+
+    private static void assertMatchesPattern(final String string, final char quote, final Pattern pattern) {
+        final Matcher matcher = pattern.matcher(string);
+        final int start = StringUtils.findQuoted(string, quote);
+        if (matcher.find()) {
+            assertWithMessage(string).that(start).isEqualTo(matcher.start());
+            assertWithMessage(string).that(StringUtils.closingQuote(string, start)).isEqualTo(matcher.end() - 1);
+        } else {
+            assertWithMessage(string).that(start).isEqualTo(-1);
+        }
+    }
+
+    private static String randomString(final Random random, final char[] alphabet, final int maxLength) {
+        final int length = random.nextInt(maxLength + 1);
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.services;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Handle to a service type that has been resolved ahead of time using {@link ServicePipeline#prepare}.
+ *
+ * <p>Pumping a context through a prepared service skips the lookup of the service type, which makes it suitable for
+ * callers that pump contexts frequently. Implementations that are registered after the service was prepared will
+ * still be used.</p>
+ *
+ * @param <Context> Context type
+ * @param <Result>  Result type
+ */
+public final class PreparedService<Context, Result> {
+
+    private final ServicePipeline pipeline;
+    private final ServiceRepository<Context, Result> repository;
+
+    PreparedService(
+            final @NonNull ServicePipeline pipeline,
+            final @NonNull ServiceRepository<Context, Result> repository
+    ) {
+        this.pipeline = pipeline;
+        this.repository = repository;
+    }
+
+    /**
+     * Start traversing the service by providing the context that will be used to generate the results
+     *
+     * @param context Context
+     * @return Service spigot instance
+     */
+    public @NonNull ServiceSpigot<@NonNull Context, @NonNull Result> pump(final @NonNull Context context) {
+        return new ServiceSpigot<>(this.pipeline, context, this.repository);
+    }
+
+    /**
+     * Returns the first result that is generated for the given context. This is equivalent to
+     * {@code pump(context).complete()}.
+     *
+     * @param context Context
+     * @return generated result
+     * @throws IllegalStateException If no result was found
+     * @throws PipelineException     Any exceptions thrown during filtering or result retrieval
+     * @see ServiceSpigot#complete()
+     */
+    public @NonNull Result complete(final @NonNull Context context) throws IllegalStateException, PipelineException {
+        return this.pump(context).complete();
+    }
+}
@@ -189,6 +189,22 @@ public final class ServicePipeline {
         return new ServicePump<>(this, context);
     }
 
+    /**
+     * Resolve the given service type ahead of time. Pumping contexts through the returned {@link PreparedService}
+     * avoids looking up the service type for every context.
+     *
+     * @param type      Service type
+     * @param <Context> Context type
+     * @param <Result>  Result type
+     * @return Prepared service
+     * @throws IllegalArgumentException If the service type has not been registered
+     */
+    public <Context, Result> @NonNull PreparedService<@NonNull Context, @NonNull Result> prepare(
+            final @NonNull TypeToken<? extends Service<@NonNull Context, @NonNull Result>> type
+    ) {
+        return new PreparedService<>(this, this.getRepository(type));
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull <Context, Result> ServiceRepository<Context, Result> getRepository(
             final @NonNull TypeToken<? extends Service<Context, Result>> type
@@ -227,11 +243,8 @@ public final class ServicePipeline {
     ) {
         ServiceRepository<Context, Result> repository = this.getRepository(type);
         List<TypeToken<? extends S>> collection = new LinkedList<>();
-        final LinkedList<? extends ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>>
-                queue = repository.queue();
-        queue.sort(null);
-        Collections.reverse(queue);
-        for (ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper : queue) {
+        for (ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper
+                : repository.snapshot()) {
             collection
                     .add((TypeToken<? extends S>) TypeToken.get(wrapper.implementation().getClass()));
         }
@@ -24,10 +24,11 @@
 package org.incendo.cloud.services;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -46,6 +47,7 @@ public final class ServiceRepository<Context, Response> {
     private final TypeToken<? extends Service<Context, Response>> serviceType;
     private final List<ServiceWrapper<? extends Service<Context, Response>>> implementations;
 
+    private volatile ServiceWrapper<? extends Service<Context, Response>>[] snapshot;
     private int registrationOrder = 0;
 
     /**
@@ -55,7 +57,8 @@ public final class ServiceRepository<Context, Response> {
      */
     ServiceRepository(final @NonNull TypeToken<? extends Service<Context, Response>> serviceType) {
         this.serviceType = serviceType;
-        this.implementations = new LinkedList<>();
+        this.implementations = new ArrayList<>();
+        this.snapshot = this.createSnapshot();
     }
 
     /**
@@ -71,19 +74,28 @@ public final class ServiceRepository<Context, Response> {
     ) {
         synchronized (this.lock) {
             this.implementations.add(new ServiceWrapper<>(service, filters));
+            this.snapshot = this.createSnapshot();
         }
     }
 
     /**
-     * Returns a queue containing all implementations.
+     * Returns all implementations in the order in which they should be invoked, starting with the implementation
+     * with the highest priority.
      *
-     * @return queue containing all implementations
+     * <p>The snapshot is rebuilt when an implementation is registered, and the returned array must not be modified.</p>
+     *
+     * @return snapshot containing all implementations
      */
-    @SuppressWarnings("NonApiType")
-    @NonNull LinkedList<ServiceWrapper<? extends Service<Context, Response>>> queue() {
-        synchronized (this.lock) {
-            return new LinkedList<>(this.implementations);
-        }
+    ServiceWrapper<? extends Service<Context, Response>> @NonNull [] snapshot() {
+        return this.snapshot;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ServiceWrapper<? extends Service<Context, Response>> @NonNull [] createSnapshot() {
+        final ServiceWrapper<? extends Service<Context, Response>>[] snapshot =
+                this.implementations.toArray(new ServiceRepository.ServiceWrapper[0]);
+        Arrays.sort(snapshot, Collections.reverseOrder());
+        return snapshot;
     }
 
 
@@ -24,10 +24,13 @@
 package org.incendo.cloud.services;
 
 import io.leangen.geantyref.TypeToken;
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.services.type.AsyncService;
 import org.incendo.cloud.services.type.ConsumerService;
 import org.incendo.cloud.services.type.Service;
 import org.incendo.cloud.services.type.SideEffectService;
@@ -48,10 +51,18 @@ public final class ServiceSpigot<Context, Result> {
             final @NonNull ServicePipeline pipeline,
             final @NonNull Context context,
             final @NonNull TypeToken<? extends Service<@NonNull Context, @NonNull Result>> type
+    ) {
+        this(pipeline, context, pipeline.getRepository(type));
+    }
+
+    ServiceSpigot(
+            final @NonNull ServicePipeline pipeline,
+            final @NonNull Context context,
+            final @NonNull ServiceRepository<Context, Result> repository
     ) {
         this.context = context;
         this.pipeline = pipeline;
-        this.repository = pipeline.getRepository(type);
+        this.repository = repository;
     }
 
     /**
@@ -75,44 +86,21 @@ public final class ServiceSpigot<Context, Result> {
      * @see PipelineException PipelineException wraps exceptions thrown during filtering and result
      *         retrieval
      */
-    @SuppressWarnings("unchecked")
     public @NonNull Result complete()
             throws IllegalStateException, PipelineException {
-        final LinkedList<? extends ServiceRepository<@NonNull Context, @NonNull Result>
-                .ServiceWrapper<? extends Service<@NonNull Context, @NonNull Result>>>
-                queue = this.repository.queue();
-        queue.sort(null); // Sort using the built in comparator method
-        ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>
-                wrapper;
         boolean consumerService = false;
-        while ((wrapper = queue.pollLast()) != null) {
+        for (final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper
+                : this.repository.snapshot()) {
             consumerService = wrapper.implementation() instanceof ConsumerService;
             if (!ServiceFilterHandler.INSTANCE.passes(wrapper, this.context)) {
                 continue;
             }
-            final Result result;
-            try {
-                result = wrapper.implementation().handle(this.context);
-            } catch (final Exception e) {
-                throw new PipelineException(String.format("Failed to retrieve result from %s", wrapper), e);
-            }
-            if (wrapper.implementation() instanceof SideEffectService) {
-                if (result == null) {
-                    throw new IllegalStateException(String.format("SideEffectService '%s' returned null", wrapper));
-                } else if (result == State.ACCEPTED) {
-                    return result;
-                }
-            } else if (result != null) {
+            final Result result = this.handle(wrapper);
+            if (this.isFinal(wrapper, result)) {
                 return result;
             }
         }
-        // This is hack to make it so that the default
-        // consumer implementation does not have to call #interrupt
-        if (consumerService) {
-            return (Result) State.ACCEPTED;
-        }
-        throw new IllegalStateException(
-                "No service consumed the context. This means that the pipeline was not constructed properly.");
+        return this.exhausted(consumerService);
     }
 
     /**
@@ -146,10 +134,129 @@ public final class ServiceSpigot<Context, Result> {
      * <p>If nothing manages to produce a result, an exception will be thrown. If the pipeline has been
      * constructed properly, this will never happen.</p>
      *
+     * <p>The implementations are invoked using the executor of the pipeline. The futures returned by
+     * {@link AsyncService async services} are composed without blocking, and the remaining implementations are
+     * invoked once they complete.</p>
+     *
      * @return generated result
      */
     public @NonNull CompletableFuture<Result> completeAsynchronously() {
-        return CompletableFuture.supplyAsync(this::complete, this.pipeline.executor());
+        final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>[] snapshot =
+                this.repository.snapshot();
+        return CompletableFuture.supplyAsync(() -> this.completeAsynchronously(snapshot, 0, false), this.pipeline.executor())
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Invokes the implementations starting at the given {@code index}. Synchronous implementations are invoked
+     * directly, and the remaining implementations are invoked on the pipeline executor once the future of an
+     * {@link AsyncService} has completed.
+     *
+     * @param snapshot        implementations in invocation order
+     * @param index           index of the first implementation to invoke
+     * @param consumerService whether the previous implementation was a {@link ConsumerService}
+     * @return future result
+     */
+    private @NonNull CompletableFuture<Result> completeAsynchronously(
+            final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> @NonNull [] snapshot,
+            final int index,
+            final boolean consumerService
+    ) {
+        boolean isConsumerService = consumerService;
+        for (int i = index; i < snapshot.length; i++) {
+            final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper = snapshot[i];
+            isConsumerService = wrapper.implementation() instanceof ConsumerService;
+            if (!ServiceFilterHandler.INSTANCE.passes(wrapper, this.context)) {
+                continue;
+            }
+            if (wrapper.implementation() instanceof AsyncService) {
+                final int next = i + 1;
+                final boolean nextConsumerService = isConsumerService;
+                return this.handleAsynchronously(wrapper).thenComposeAsync(
+                        result -> this.isFinal(wrapper, result)
+                                ? CompletableFuture.completedFuture(result)
+                                : this.completeAsynchronously(snapshot, next, nextConsumerService),
+                        this.pipeline.executor()
+                );
+            }
+            final Result result = this.handle(wrapper);
+            if (this.isFinal(wrapper, result)) {
+                return CompletableFuture.completedFuture(result);
+            }
+        }
+        return CompletableFuture.completedFuture(this.exhausted(isConsumerService));
+    }
+
+    private @Nullable Result handle(
+            final ServiceRepository<Context, Result>.@NonNull ServiceWrapper<? extends Service<Context, Result>> wrapper
+    ) {
+        try {
+            return wrapper.implementation().handle(this.context);
+        } catch (final Exception e) {
+            throw new PipelineException(String.format("Failed to retrieve result from %s", wrapper), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull CompletableFuture<@Nullable Result> handleAsynchronously(
+            final ServiceRepository<Context, Result>.@NonNull ServiceWrapper<? extends Service<Context, Result>> wrapper
+    ) {
+        final CompletableFuture<@Nullable Result> future;
+        try {
+            future = ((AsyncService<Context, Result>) wrapper.implementation()).handleAsync(this.context);
+        } catch (final Exception e) {
+            throw new PipelineException(String.format("Failed to retrieve result from %s", wrapper), e);
+        }
+        final CompletableFuture<@Nullable Result> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            if (cause instanceof Exception) {
+                result.completeExceptionally(
+                        new PipelineException(String.format("Failed to retrieve result from %s", wrapper), (Exception) cause)
+                );
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns whether the given {@code result} ends the pipeline.
+     *
+     * @param wrapper implementation that produced the result
+     * @param result  result
+     * @return {@code true} if the result should be returned
+     * @throws IllegalStateException If a {@link SideEffectService} returned {@code null}
+     */
+    private boolean isFinal(
+            final ServiceRepository<Context, Result>.@NonNull ServiceWrapper<? extends Service<Context, Result>> wrapper,
+            final @Nullable Result result
+    ) {
+        if (wrapper.implementation() instanceof SideEffectService) {
+            if (result == null) {
+                throw new IllegalStateException(String.format("SideEffectService '%s' returned null", wrapper));
+            }
+            return result == State.ACCEPTED;
+        }
+        return result != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull Result exhausted(final boolean consumerService) {
+        // This is hack to make it so that the default
+        // consumer implementation does not have to call #interrupt
+        if (consumerService) {
+            return (Result) State.ACCEPTED;
+        }
+        throw new IllegalStateException(
+                "No service consumed the context. This means that the pipeline was not constructed properly.");
     }
 
     /**
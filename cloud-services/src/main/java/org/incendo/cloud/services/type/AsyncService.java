@@ -0,0 +1,70 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.services.type;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Service that produces its response asynchronously. When contexts are pumped using
+ * {@link org.incendo.cloud.services.ServiceSpigot#completeAsynchronously()}, the pipeline waits for the returned
+ * future without blocking a thread.
+ *
+ * @param <Context> Context type, this will be the input that is used to generate the response
+ * @param <Result>  Response type, this is what is produced by the service ("provided")
+ */
+@FunctionalInterface
+public interface AsyncService<Context, Result> extends Service<Context, Result> {
+
+    /**
+     * Provide a future response for the given context. If the service implementation cannot provide a
+     * response for the given context, the future should complete with {@code null}
+     *
+     * @param context Context used in the generation of the response
+     * @return Future response. The semantics of the response are the same as for {@link #handle(Object)}
+     * @throws Exception Any exception that occurs during the handling can be thrown or used to complete the
+     *                   future, and will be wrapped by a {@link org.incendo.cloud.services.PipelineException}
+     */
+    @NonNull CompletableFuture<@Nullable Result> handleAsync(@NonNull Context context) throws Exception;
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This blocks until the future returned by {@link #handleAsync(Object)} has completed. It is only used when
+     * contexts are pumped synchronously.</p>
+     */
+    @Override
+    default @Nullable Result handle(final @NonNull Context context) throws Exception {
+        try {
+            return this.handleAsync(context).get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
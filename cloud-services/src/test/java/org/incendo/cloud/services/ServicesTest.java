@@ -32,6 +32,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import org.incendo.cloud.services.mock.AnnotatedMethodTest;
 import org.incendo.cloud.services.mock.CompletingPartialResultService;
 import org.incendo.cloud.services.mock.DefaultMockService;
@@ -49,6 +52,8 @@ import org.incendo.cloud.services.mock.MockSideEffectService;
 import org.incendo.cloud.services.mock.SecondaryMockService;
 import org.incendo.cloud.services.mock.SecondaryMockSideEffectService;
 import org.incendo.cloud.services.mock.StateSettingConsumerService;
+import org.incendo.cloud.services.type.AsyncService;
+import org.incendo.cloud.services.type.AsyncSideEffectService;
 import org.incendo.cloud.services.type.Service;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -122,6 +127,70 @@ public class ServicesTest {
         );
     }
 
+    @Test
+    public void testAsyncServices() throws Exception {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build()
+                .registerServiceType(
+                        TypeToken.get(MockService.class),
+                        new DefaultMockService()
+                );
+        final CompletableFuture<MockService.MockResult> pendingResult = new CompletableFuture<>();
+        servicePipeline.registerServiceImplementation(MockService.class,
+                (AsyncService<MockService.MockContext, MockService.MockResult>) context -> pendingResult,
+                Collections.emptyList()
+        );
+        final CompletableFuture<MockService.MockResult> result = servicePipeline.pump(new MockService.MockContext(""))
+                .through(MockService.class).completeAsynchronously();
+        Assertions.assertFalse(result.isDone());
+        // The async service did not produce a result, so the default implementation should be used
+        pendingResult.complete(null);
+        Assertions.assertEquals(32, result.get(5L, TimeUnit.SECONDS).getInteger());
+        Assertions.assertEquals(
+                32,
+                servicePipeline.pump(new MockService.MockContext("")).through(MockService.class).complete().getInteger()
+        );
+    }
+
+    @Test
+    public void testAsyncSideEffectServices() {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build();
+        servicePipeline.registerServiceType(
+                TypeToken.get(MockSideEffectService.class),
+                new DefaultSideEffectService()
+        );
+        servicePipeline.registerServiceImplementation(MockSideEffectService.class,
+                (AsyncSideEffectService<MockSideEffectService.MockPlayer>) player -> {
+                    final CompletableFuture<State> future = new CompletableFuture<>();
+                    if (player.getHealth() < 0) {
+                        future.completeExceptionally(new IllegalArgumentException("negative health"));
+                    } else {
+                        future.complete(player.getHealth() > 10 ? State.ACCEPTED : State.REJECTED);
+                    }
+                    return future;
+                },
+                Collections.emptyList()
+        );
+        final MockSideEffectService.MockPlayer mockPlayer = new MockSideEffectService.MockPlayer(20);
+        Assertions.assertEquals(
+                State.ACCEPTED,
+                servicePipeline.pump(mockPlayer).through(MockSideEffectService.class).completeAsynchronously().join()
+        );
+        Assertions.assertEquals(20, mockPlayer.getHealth());
+        mockPlayer.setHealth(5);
+        Assertions.assertEquals(
+                State.ACCEPTED,
+                servicePipeline.pump(mockPlayer).through(MockSideEffectService.class).completeAsynchronously().join()
+        );
+        Assertions.assertEquals(0, mockPlayer.getHealth());
+        mockPlayer.setHealth(-1);
+        final CompletionException exception = Assertions.assertThrows(
+                CompletionException.class,
+                () -> servicePipeline.pump(mockPlayer).through(MockSideEffectService.class).completeAsynchronously().join()
+        );
+        Assertions.assertInstanceOf(PipelineException.class, exception.getCause());
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause().getCause());
+    }
+
     @Test
     public void testForwarding() throws Exception {
         final ServicePipeline servicePipeline = ServicePipeline.builder().build()
@@ -168,6 +237,53 @@ public class ServicesTest {
         );
     }
 
+    @Test
+    public void testSortingAfterPump() {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build()
+                .registerServiceType(
+                        TypeToken.get(MockService.class),
+                        new DefaultMockService()
+                );
+        servicePipeline.registerServiceImplementation(MockService.class, new MockOrderedLast(),
+                Collections.emptyList()
+        );
+        Assertions.assertEquals(
+                2,
+                servicePipeline.pump(new MockService.MockContext("")).through(MockService.class)
+                        .complete().getInteger()
+        );
+        // Registering an implementation should update the snapshot used by later pumps
+        servicePipeline.registerServiceImplementation(MockService.class, new MockOrderedFirst(),
+                Collections.emptyList()
+        );
+        Assertions.assertEquals(
+                1,
+                servicePipeline.pump(new MockService.MockContext("")).through(MockService.class)
+                        .complete().getInteger()
+        );
+    }
+
+    @Test
+    public void testPreparedService() {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build()
+                .registerServiceType(
+                        TypeToken.get(MockService.class),
+                        new DefaultMockService()
+                );
+        final PreparedService<MockService.MockContext, MockService.MockResult> preparedService =
+                servicePipeline.prepare(TypeToken.get(MockService.class));
+        Assertions.assertEquals(32, preparedService.complete(new MockService.MockContext("")).getInteger());
+        // Implementations registered after the service was prepared should be used
+        servicePipeline.registerServiceImplementation(MockService.class, new MockOrderedFirst(),
+                Collections.emptyList()
+        );
+        Assertions.assertEquals(1, preparedService.complete(new MockService.MockContext("")).getInteger());
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> servicePipeline.prepare(TypeToken.get(MockSideEffectService.class))
+        );
+    }
+
     @Test
     public void testRecognisedTypes() {
         final ServicePipeline servicePipeline = ServicePipeline.builder().build()